@@ -0,0 +1,26 @@
+package com.cdac.cdacConnect.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cdac.cdacConnect.dto.CacheRegionStats;
+import com.cdac.cdacConnect.service.SecondLevelCacheService;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+
+    @Autowired
+    private SecondLevelCacheService secondLevelCacheService;
+
+    // Second-level and query cache counters, one entry per region
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheRegionStats>> getCacheStats() {
+        return ResponseEntity.ok(secondLevelCacheService.regionStats());
+    }
+}
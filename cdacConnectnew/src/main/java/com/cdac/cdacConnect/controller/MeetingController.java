@@ -1,9 +1,14 @@
 package com.cdac.cdacConnect.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,10 +16,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.cdac.cdacConnect.dto.CursorPage;
 import com.cdac.cdacConnect.entity.Meeting;
+import com.cdac.cdacConnect.event.MeetingEventBus;
+import com.cdac.cdacConnect.service.ExportService;
+import com.cdac.cdacConnect.service.IdempotencyService;
 import com.cdac.cdacConnect.service.MeetingService;
 
 @RestController
@@ -24,19 +37,33 @@ public class MeetingController {
     @Autowired
     private MeetingService meetingService;
 
+    @Autowired
+    private MeetingEventBus meetingEventBus;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private ExportService exportService;
+
     // Create a new meeting request
     @PostMapping
-    public ResponseEntity<String> createMeeting(@RequestBody MeetingRequest request) {
+    public ResponseEntity<String> createMeeting(@RequestBody MeetingRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
         try {
             Meeting meeting = new Meeting();
             meeting.setStudentId(request.getStudentId());
             meeting.setMentorId(request.getMentorId());
             meeting.setSelectedSkills(String.join(",", request.getSkills()));
             meeting.setQuestion(request.getQuestion());
+            meeting.setScheduledStart(request.getScheduledStart());
+            meeting.setScheduledEnd(request.getScheduledEnd());
             meeting.setStatus("PENDING");
             meeting.setRequestDate(java.time.LocalDateTime.now());
             
-            return meetingService.createMeeting(meeting);
+            // Retries with the same Idempotency-Key (and the same request) replay the first response
+            return idempotencyService.execute("meetings", idempotencyKey, "student:" + request.getStudentId(), request,
+                    () -> meetingService.createMeeting(meeting));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Error creating meeting request: " + e.getMessage());
         }
@@ -44,25 +71,56 @@ public class MeetingController {
 
     // Create a new meeting request with skills and question (Enhanced endpoint)
     @PostMapping("/request")
-    public ResponseEntity<String> createMeetingRequest(@RequestBody MeetingRequestWithSkills request) {
+    public ResponseEntity<String> createMeetingRequest(@RequestBody MeetingRequestWithSkills request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
         try {
             Meeting meeting = new Meeting();
             meeting.setStudentId(request.getStudentId());
             meeting.setMentorId(request.getMentorId());
             meeting.setSelectedSkills(String.join(",", request.getSkills()));
             meeting.setQuestion(request.getQuestion());
+            meeting.setScheduledStart(request.getScheduledStart());
+            meeting.setScheduledEnd(request.getScheduledEnd());
             meeting.setStatus("PENDING");
             meeting.setRequestDate(java.time.LocalDateTime.now());
             
-            return meetingService.createMeeting(meeting);
+            // Retries with the same Idempotency-Key (and the same request) replay the first response
+            return idempotencyService.execute("meetings", idempotencyKey, "student:" + request.getStudentId(), request,
+                    () -> meetingService.createMeeting(meeting));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Error creating meeting request: " + e.getMessage());
         }
     }
 
-    // Get all meetings
+    // Stream every meeting (archived ones too, unless includeArchived=false) as CSV or NDJSON,
+    // optionally filtered by status and request date [from, to)
+    @GetMapping("/export")
+    public ResponseEntity<?> exportMeetings(@RequestParam(defaultValue = ExportService.CSV) String format,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "true") boolean includeArchived) {
+        if (!ExportService.isSupportedFormat(format)) {
+            return ResponseEntity.badRequest().body("Unsupported export format: " + format);
+        }
+        StreamingResponseBody body = out -> exportService.exportMeetings(format, status, from, to, includeArchived, out);
+        return ResponseEntity.ok()
+                .contentType(ExportService.mediaType(format))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"meetings." + format + "\"")
+                .body(body);
+    }
+
+    // Get all meetings (keyset paginated when limit or cursor is given)
     @GetMapping
-    public ResponseEntity<List<Meeting>> getAllMeetings() {
+    public ResponseEntity<?> getAllMeetings(@RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        if (limit != null || cursor != null) {
+            try {
+                return ResponseEntity.ok(meetingService.getMeetingsPage(CursorPage.decode(cursor), CursorPage.clampLimit(limit)));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(e.getMessage());
+            }
+        }
         List<Meeting> meetings = meetingService.getAllMeetings();
         if (meetings.isEmpty()) {
             return ResponseEntity.noContent().build();
@@ -70,6 +128,22 @@ public class MeetingController {
         return ResponseEntity.ok(meetings);
     }
 
+    // Full-text search over meeting questions and skills, best matches first
+    @GetMapping("/search")
+    public ResponseEntity<?> searchMeetings(@RequestParam String q, @RequestParam(required = false) Long mentorId,
+            @RequestParam(defaultValue = "0") int offset, @RequestParam(required = false) Integer limit) {
+        if (q.isBlank()) {
+            return ResponseEntity.badRequest().body("Search query is required");
+        }
+        return ResponseEntity.ok(meetingService.searchMeetings(q, mentorId, Math.max(0, offset), CursorPage.clampLimit(limit)));
+    }
+
+    // Rebuild the search index from the database (cold start, or after bulk imports)
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<String> rebuildSearchIndex() {
+        return ResponseEntity.ok("Search index rebuilt with " + meetingService.rebuildSearchIndex() + " meetings");
+    }
+
     // Get meeting by ID
     @GetMapping("/{id}")
     public ResponseEntity<Meeting> getMeetingById(@PathVariable Long id) {
@@ -78,20 +152,22 @@ public class MeetingController {
                      .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
-    // Get meetings by student ID
+    // Get meetings by student ID (includeArchived=true also returns archived meetings)
     @GetMapping("/student/{studentId}")
-    public ResponseEntity<List<Meeting>> getMeetingsByStudentId(@PathVariable Long studentId) {
-        List<Meeting> meetings = meetingService.getMeetingsByStudentId(studentId);
+    public ResponseEntity<List<Meeting>> getMeetingsByStudentId(@PathVariable Long studentId,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        List<Meeting> meetings = meetingService.getMeetingsByStudentId(studentId, includeArchived);
         if (meetings.isEmpty()) {
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.ok(meetings);
     }
 
-    // Get meetings by mentor ID
+    // Get meetings by mentor ID (includeArchived=true also returns archived meetings)
     @GetMapping("/mentor/{mentorId}")
-    public ResponseEntity<List<Meeting>> getMeetingsByMentorId(@PathVariable Long mentorId) {
-        List<Meeting> meetings = meetingService.getMeetingsByMentorId(mentorId);
+    public ResponseEntity<List<Meeting>> getMeetingsByMentorId(@PathVariable Long mentorId,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        List<Meeting> meetings = meetingService.getMeetingsByMentorId(mentorId, includeArchived);
         if (meetings.isEmpty()) {
             return ResponseEntity.noContent().build();
         }
@@ -104,6 +180,35 @@ public class MeetingController {
         return meetingService.getMentorMeetingsWithDetails(mentorId);
     }
 
+    // Stream new meeting requests and status changes to the mentor homepage (Server-Sent Events)
+    @GetMapping(path = "/mentor/{mentorId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMeetingsForMentor(@PathVariable Long mentorId) {
+        return meetingEventBus.subscribe(mentorId);
+    }
+
+    // Get a mentor's meeting counts by status (pending, approved, completed, ...)
+    @GetMapping("/mentor/{mentorId}/counts")
+    public ResponseEntity<Map<String, Long>> getMentorMeetingCounts(@PathVariable Long mentorId) {
+        return ResponseEntity.ok(meetingService.getMentorMeetingCounts(mentorId));
+    }
+
+    // Get a student's meeting counts by status
+    @GetMapping("/student/{studentId}/counts")
+    public ResponseEntity<Map<String, Long>> getStudentMeetingCounts(@PathVariable Long studentId) {
+        return ResponseEntity.ok(meetingService.getStudentMeetingCounts(studentId));
+    }
+
+    // Is a mentor free for a time slot? (no approved meeting overlaps [start, end))
+    @GetMapping("/mentor/{mentorId}/availability")
+    public ResponseEntity<?> getMentorAvailability(@PathVariable Long mentorId,
+                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+        if (!end.isAfter(start)) {
+            return ResponseEntity.badRequest().body("Invalid time slot");
+        }
+        return ResponseEntity.ok(Map.of("available", meetingService.isMentorAvailable(mentorId, start, end)));
+    }
+
     // Get pending meetings for a mentor
     @GetMapping("/mentor/{mentorId}/pending")
     public ResponseEntity<List<Meeting>> getPendingMeetingsForMentor(@PathVariable Long mentorId) {
@@ -136,15 +241,30 @@ public class MeetingController {
         return meetingService.updateMeetingStatus(id, request.getStatus(), request.getMentorId());
     }
 
+    // Accept/reject many of a mentor's meetings in one request
+    @PutMapping("/bulk-status")
+    public ResponseEntity<?> bulkUpdateMeetingStatus(@RequestBody BulkStatusUpdateRequest request) {
+        return meetingService.bulkUpdateMeetingStatus(request.getMeetingIds(), request.getStatus(), request.getMentorId());
+    }
+
     // Cancel meeting
     @PutMapping("/{id}/cancel")
     public ResponseEntity<String> cancelMeeting(@PathVariable Long id, @RequestBody CancelRequest request) {
         return meetingService.cancelMeeting(id, request.getUserId(), request.getUserType());
     }
 
-    // Get meetings by status
+    // Get meetings by status (keyset paginated when limit or cursor is given)
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<Meeting>> getMeetingsByStatus(@PathVariable String status) {
+    public ResponseEntity<?> getMeetingsByStatus(@PathVariable String status, @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        if (limit != null || cursor != null) {
+            try {
+                return ResponseEntity.ok(meetingService.getMeetingsByStatusPage(status, CursorPage.decode(cursor),
+                        CursorPage.clampLimit(limit)));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(e.getMessage());
+            }
+        }
         List<Meeting> meetings = meetingService.getMeetingsByStatus(status);
         if (meetings.isEmpty()) {
             return ResponseEntity.noContent().build();
@@ -182,6 +302,8 @@ public class MeetingController {
         private Long mentorId;
         private List<String> skills;
         private String question;
+        private LocalDateTime scheduledStart;
+        private LocalDateTime scheduledEnd;
 
         // Getters and Setters
         public Long getStudentId() { return studentId; }
@@ -195,6 +317,12 @@ public class MeetingController {
         
         public String getQuestion() { return question; }
         public void setQuestion(String question) { this.question = question; }
+        
+        public LocalDateTime getScheduledStart() { return scheduledStart; }
+        public void setScheduledStart(LocalDateTime scheduledStart) { this.scheduledStart = scheduledStart; }
+        
+        public LocalDateTime getScheduledEnd() { return scheduledEnd; }
+        public void setScheduledEnd(LocalDateTime scheduledEnd) { this.scheduledEnd = scheduledEnd; }
     }
 
     public static class StatusUpdateRequest {
@@ -224,6 +352,8 @@ public class MeetingController {
         private Long mentorId;
         private List<String> skills;
         private String question;
+        private LocalDateTime scheduledStart;
+        private LocalDateTime scheduledEnd;
 
         // Getters and Setters
         public Long getStudentId() { return studentId; }
@@ -237,6 +367,12 @@ public class MeetingController {
         
         public String getQuestion() { return question; }
         public void setQuestion(String question) { this.question = question; }
+        
+        public LocalDateTime getScheduledStart() { return scheduledStart; }
+        public void setScheduledStart(LocalDateTime scheduledStart) { this.scheduledStart = scheduledStart; }
+        
+        public LocalDateTime getScheduledEnd() { return scheduledEnd; }
+        public void setScheduledEnd(LocalDateTime scheduledEnd) { this.scheduledEnd = scheduledEnd; }
     }
 
     public static class MeetingStatusUpdate {
@@ -249,4 +385,18 @@ public class MeetingController {
         public Long getMentorId() { return mentorId; }
         public void setMentorId(Long mentorId) { this.mentorId = mentorId; }
     }
+
+    public static class BulkStatusUpdateRequest {
+        private List<Long> meetingIds;
+        private String status;
+        private Long mentorId;
+
+        // Getters and Setters
+        public List<Long> getMeetingIds() { return meetingIds; }
+        public void setMeetingIds(List<Long> meetingIds) { this.meetingIds = meetingIds; }
+        public String getStatus() { return status; }
+        public void setStatus(String status) { this.status = status; }
+        public Long getMentorId() { return mentorId; }
+        public void setMentorId(Long mentorId) { this.mentorId = mentorId; }
+    }
 } 
\ No newline at end of file
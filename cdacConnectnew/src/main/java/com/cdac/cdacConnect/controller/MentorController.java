@@ -13,10 +13,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.cdac.cdacConnect.dto.CursorPage;
 import com.cdac.cdacConnect.entity.Mentor;
-import com.cdac.cdacConnect.entity.Skill;
 import com.cdac.cdacConnect.service.MentorService;
 
 @RestController
@@ -54,9 +55,17 @@ public class MentorController {
         }
     }
 
-    // Get all mentors
+    // Get all mentors (keyset paginated when limit or cursor is given)
     @GetMapping
-    public ResponseEntity<List<Mentor>> getAllMentors() {
+    public ResponseEntity<?> getAllMentors(@RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        if (limit != null || cursor != null) {
+            try {
+                return ResponseEntity.ok(mentorService.getMentorPage(CursorPage.decode(cursor), CursorPage.clampLimit(limit)));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(e.getMessage());
+            }
+        }
         List<Mentor> mentors = mentorService.getAllMentor();
         if (mentors.isEmpty()) {
             return ResponseEntity.noContent().build();
@@ -64,6 +73,22 @@ public class MentorController {
         return ResponseEntity.ok(mentors);
     }
 
+    // Search mentors by skills, e.g. ?all=Java,Spring&any=React,Angular&none=PHP (keyset paginated)
+    @GetMapping("/search")
+    public ResponseEntity<?> searchMentors(@RequestParam(required = false) List<String> all,
+            @RequestParam(required = false) List<String> any,
+            @RequestParam(required = false) List<String> none,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        try {
+            return ResponseEntity.ok(mentorService.searchMentorsBySkills(all == null ? List.of() : all,
+                    any == null ? List.of() : any, none == null ? List.of() : none,
+                    CursorPage.decode(cursor), CursorPage.clampLimit(limit)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     // Get mentor by ID
     @GetMapping("/{id}")
     public ResponseEntity<Mentor> getMentorById(@PathVariable Long id) {
@@ -113,61 +138,13 @@ public class MentorController {
     // Delete a specific skill from mentor
     @DeleteMapping("/{mentorId}/skills/{skillName}")
     public ResponseEntity<String> deleteSkillFromMentor(@PathVariable Long mentorId, @PathVariable String skillName) {
-        try {
-            Optional<Mentor> mentor = mentorService.getMentorById(mentorId);
-            if (mentor.isEmpty()) {
-                return ResponseEntity.notFound().build();
-            }
-            
-            Mentor mentorData = mentor.get();
-            List<Skill> currentSkills = mentorData.getSkills();
-            
-            if (currentSkills == null) {
-                return ResponseEntity.badRequest().body("No skills found for this mentor");
-            }
-            
-            // Find and remove the skill by name
-            boolean skillFound = currentSkills.removeIf(skill -> skill.getSkillName().equals(skillName));
-            
-            if (!skillFound) {
-                return ResponseEntity.badRequest().body("Skill not found for this mentor");
-            }
-            
-            mentorData.setSkills(currentSkills);
-            mentorService.updateMentor(mentorId, mentorData);
-            return ResponseEntity.ok("Skill '" + skillName + "' deleted successfully");
-            
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("Error deleting skill: " + e.getMessage());
-        }
+        return mentorService.removeSkillFromMentor(mentorId, skillName);
     }
 
     // Delete multiple skills from mentor
     @DeleteMapping("/{mentorId}/skills")
     public ResponseEntity<String> deleteSkillsFromMentor(@PathVariable Long mentorId, @RequestBody List<String> skillNames) {
-        try {
-            Optional<Mentor> mentor = mentorService.getMentorById(mentorId);
-            if (mentor.isEmpty()) {
-                return ResponseEntity.notFound().build();
-            }
-            
-            Mentor mentorData = mentor.get();
-            List<Skill> currentSkills = mentorData.getSkills();
-            
-            if (currentSkills == null) {
-                return ResponseEntity.badRequest().body("No skills found for this mentor");
-            }
-            
-            // Remove skills by name
-            currentSkills.removeIf(skill -> skillNames.contains(skill.getSkillName()));
-            mentorData.setSkills(currentSkills);
-            
-            mentorService.updateMentor(mentorId, mentorData);
-            return ResponseEntity.ok("Skills deleted successfully");
-            
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("Error deleting skills: " + e.getMessage());
-        }
+        return mentorService.removeSkillsFromMentor(mentorId, skillNames);
     }
 
     // Get mentor's Calendly link
@@ -12,8 +12,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.cdac.cdacConnect.dto.CursorPage;
+import com.cdac.cdacConnect.dto.MentorSummary;
+import com.cdac.cdacConnect.dto.SkillCatalogStats;
+import com.cdac.cdacConnect.dto.SkillSuggestion;
+import com.cdac.cdacConnect.dto.SkillSummary;
 import com.cdac.cdacConnect.entity.Skill;
 import com.cdac.cdacConnect.service.SkillService;
 
@@ -21,6 +27,9 @@ import com.cdac.cdacConnect.service.SkillService;
 @RequestMapping("/api/skills")
 public class SkillController {
 
+    private static final int DEFAULT_SUGGESTIONS = 10;
+    private static final int MAX_SUGGESTIONS = 50;
+
     @Autowired
     private SkillService skillService;
 
@@ -30,10 +39,18 @@ public class SkillController {
         return skillService.saveSkill(skill);
     }
 
-    // Get all skills
+    // Get all skills (keyset paginated when limit or cursor is given)
     @GetMapping
-    public ResponseEntity<List<Skill>> getAllSkills() {
-        List<Skill> skills = skillService.getAllSkill();
+    public ResponseEntity<?> getAllSkills(@RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        if (limit != null || cursor != null) {
+            try {
+                return ResponseEntity.ok(skillService.getSkillPage(CursorPage.decode(cursor), CursorPage.clampLimit(limit)));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(e.getMessage());
+            }
+        }
+        List<SkillSummary> skills = skillService.getAllSkill();
         if (skills.isEmpty()) {
             return ResponseEntity.noContent().build();
         }
@@ -42,8 +59,8 @@ public class SkillController {
 
     // Get skill by ID
     @GetMapping("/{id}")
-    public ResponseEntity<Skill> getSkillById(@PathVariable Long id) {
-        Optional<Skill> skill = skillService.getSkillById(id);
+    public ResponseEntity<SkillSummary> getSkillById(@PathVariable Long id) {
+        Optional<SkillSummary> skill = skillService.getSkillById(id);
         return skill.map(ResponseEntity::ok)
                    .orElseGet(() -> ResponseEntity.notFound().build());
     }
@@ -56,6 +73,20 @@ public class SkillController {
                    .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    // Autocomplete for the skill picker: skills starting with the prefix, most widely held first
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SkillSuggestion>> suggestSkills(@RequestParam(defaultValue = "") String prefix,
+            @RequestParam(required = false) Integer limit) {
+        int k = limit == null ? DEFAULT_SUGGESTIONS : Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        return ResponseEntity.ok(skillService.suggestSkills(prefix, k));
+    }
+
+    // Skill catalog cache hit/miss counters
+    @GetMapping("/cache/stats")
+    public ResponseEntity<SkillCatalogStats> getCatalogStats() {
+        return ResponseEntity.ok(skillService.getCatalogStats());
+    }
+
     // Update skill
     @PutMapping("/{id}")
     public ResponseEntity<String> updateSkill(@PathVariable Long id, @RequestBody Skill updatedSkill) {
@@ -68,13 +99,20 @@ public class SkillController {
         return skillService.deleteSkill(id);
     }
 
-    // Get mentors with this skill
+    // Get mentors with this skill (keyset paginated)
     @GetMapping("/{id}/mentors")
-    public ResponseEntity<?> getMentorsWithSkill(@PathVariable Long id) {
-        Optional<Skill> skill = skillService.getSkillById(id);
-        if (skill.isEmpty()) {
-            return ResponseEntity.notFound().build();
+    public ResponseEntity<?> getMentorsWithSkill(@PathVariable Long id,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        try {
+            Optional<CursorPage<MentorSummary>> mentors =
+                    skillService.getMentorsWithSkill(id, CursorPage.decode(cursor), CursorPage.clampLimit(limit));
+            if (mentors.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(mentors.get());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
-        return ResponseEntity.ok(skill.get().getMentors());
     }
 } 
\ No newline at end of file
@@ -13,10 +13,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.cdac.cdacConnect.dto.CursorPage;
+import com.cdac.cdacConnect.dto.MentorRecommendation;
 import com.cdac.cdacConnect.entity.Student;
+import com.cdac.cdacConnect.service.MentorRecommendationService;
 import com.cdac.cdacConnect.service.StudentService;
+import com.cdac.cdacConnect.service.UserExistenceCache;
 
 @RestController
 @RequestMapping("/api/students")
@@ -28,6 +33,12 @@ public class StudentController {
     @Autowired
     private BCryptPasswordEncoder passwordEncoder;
 
+    @Autowired
+    private MentorRecommendationService recommendationService;
+
+    @Autowired
+    private UserExistenceCache userExistenceCache;
+
     // Create a new student
     @PostMapping
     public ResponseEntity<String> createStudent(@RequestBody Student student) {
@@ -53,9 +64,17 @@ public class StudentController {
         }
     }
 
-    // Get all students
+    // Get all students (keyset paginated when limit or cursor is given)
     @GetMapping
-    public ResponseEntity<List<Student>> getAllStudents() {
+    public ResponseEntity<?> getAllStudents(@RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        if (limit != null || cursor != null) {
+            try {
+                return ResponseEntity.ok(studentService.getStudentPage(CursorPage.decode(cursor), CursorPage.clampLimit(limit)));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(e.getMessage());
+            }
+        }
         List<Student> students = studentService.getAllStudent();
         if (students.isEmpty()) {
             return ResponseEntity.noContent().build();
@@ -71,6 +90,19 @@ public class StudentController {
                      .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    // Top mentors for a student, optionally for a set of skills (?skills=Java,Spring&limit=10)
+    @GetMapping("/{id}/recommended-mentors")
+    public ResponseEntity<List<MentorRecommendation>> getRecommendedMentors(@PathVariable Long id,
+            @RequestParam(required = false) List<String> skills,
+            @RequestParam(required = false) Integer limit) {
+        if (!userExistenceCache.studentExists(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        int k = limit == null ? MentorRecommendationService.DEFAULT_LIMIT
+                : Math.max(1, Math.min(limit, MentorRecommendationService.MAX_LIMIT));
+        return ResponseEntity.ok(recommendationService.recommend(id, skills == null ? List.of() : skills, k));
+    }
+
     // Get student by email
     @GetMapping("/email/{email}")
     public ResponseEntity<Student> getStudentByEmail(@PathVariable String email) {
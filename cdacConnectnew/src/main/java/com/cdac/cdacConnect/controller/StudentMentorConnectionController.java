@@ -1,9 +1,12 @@
 package com.cdac.cdacConnect.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,10 +14,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.cdac.cdacConnect.dto.ConnectionGraphStats;
+import com.cdac.cdacConnect.dto.CursorPage;
+import com.cdac.cdacConnect.entity.Skill;
 import com.cdac.cdacConnect.entity.StudentMentorConnection;
+import com.cdac.cdacConnect.service.ExportService;
+import com.cdac.cdacConnect.service.IdempotencyService;
 import com.cdac.cdacConnect.service.StudentMentorConnectionService;
 
 @RestController
@@ -24,9 +35,16 @@ public class StudentMentorConnectionController {
     @Autowired
     private StudentMentorConnectionService connectionService;
 
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private ExportService exportService;
+
     // Create a new connection
     @PostMapping
-    public ResponseEntity<String> createConnection(@RequestBody ConnectionRequest request) {
+    public ResponseEntity<String> createConnection(@RequestBody ConnectionRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
         StudentMentorConnection connection = new StudentMentorConnection();
         connection.setStudentId(request.getStudentId());
         connection.setStudentEmail(request.getStudentEmail());
@@ -35,12 +53,38 @@ public class StudentMentorConnectionController {
         connection.setMentorName(request.getMentorName());
         connection.setSelectedSkills(request.getSelectedSkills());
         
-        return connectionService.createConnection(connection);
+        // Retries with the same Idempotency-Key (and the same request) replay the first response
+        return idempotencyService.execute("connections", idempotencyKey, "student:" + request.getStudentId(), request,
+                () -> connectionService.createConnection(connection));
+    }
+
+    // Stream every connection as CSV or NDJSON, optionally filtered by status and connection date [from, to)
+    @GetMapping("/export")
+    public ResponseEntity<?> exportConnections(@RequestParam(defaultValue = ExportService.CSV) String format,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        if (!ExportService.isSupportedFormat(format)) {
+            return ResponseEntity.badRequest().body("Unsupported export format: " + format);
+        }
+        StreamingResponseBody body = out -> exportService.exportConnections(format, status, from, to, out);
+        return ResponseEntity.ok()
+                .contentType(ExportService.mediaType(format))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"connections." + format + "\"")
+                .body(body);
     }
 
-    // Get all connections
+    // Get all connections (keyset paginated when limit or cursor is given)
     @GetMapping
-    public ResponseEntity<List<StudentMentorConnection>> getAllConnections() {
+    public ResponseEntity<?> getAllConnections(@RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        if (limit != null || cursor != null) {
+            try {
+                return ResponseEntity.ok(connectionService.getConnectionsPage(CursorPage.decode(cursor), CursorPage.clampLimit(limit)));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(e.getMessage());
+            }
+        }
         List<StudentMentorConnection> connections = connectionService.getAllConnections();
         if (connections.isEmpty()) {
             return ResponseEntity.noContent().build();
@@ -118,6 +162,39 @@ public class StudentMentorConnectionController {
         return ResponseEntity.ok(connections);
     }
 
+    // Get connections that include a skill (optionally one status)
+    @GetMapping("/skill/{skillId}")
+    public ResponseEntity<List<StudentMentorConnection>> getConnectionsBySkill(@PathVariable Long skillId,
+            @RequestParam(required = false) String status) {
+        List<StudentMentorConnection> connections = connectionService.getConnectionsBySkill(skillId, status);
+        if (connections.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(connections);
+    }
+
+    // Get connections that include a skill, looked up by skill name
+    @GetMapping("/skill")
+    public ResponseEntity<List<StudentMentorConnection>> getConnectionsBySkillName(@RequestParam String name,
+            @RequestParam(required = false) String status) {
+        Optional<Skill> skill = connectionService.getSkillByName(name);
+        if (skill.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return getConnectionsBySkill(skill.get().getSkillId(), status);
+    }
+
+    // Get the ids of students who connected with a mentor for a skill
+    @GetMapping("/skill/{skillId}/students")
+    public ResponseEntity<List<Long>> getStudentIdsBySkill(@PathVariable Long skillId,
+            @RequestParam(required = false) String status) {
+        List<Long> studentIds = connectionService.getStudentIdsBySkill(skillId, status);
+        if (studentIds.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(studentIds);
+    }
+
     // Get pending connections for a mentor
     @GetMapping("/mentor/{mentorId}/pending")
     public ResponseEntity<List<StudentMentorConnection>> getPendingConnectionsForMentor(@PathVariable Long mentorId) {
@@ -138,6 +215,48 @@ public class StudentMentorConnectionController {
         return ResponseEntity.ok(connections);
     }
 
+    // Other students who share an approved mentor with the student
+    @GetMapping("/student/{studentId}/peers")
+    public ResponseEntity<long[]> getPeers(@PathVariable Long studentId) {
+        long[] peers = connectionService.getPeers(studentId);
+        if (peers.length == 0) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(peers);
+    }
+
+    // Mentors connected to the student's peers, excluding the student's own mentors
+    @GetMapping("/student/{studentId}/peer-mentors")
+    public ResponseEntity<long[]> getPeerMentors(@PathVariable Long studentId) {
+        long[] mentors = connectionService.getPeerMentors(studentId);
+        if (mentors.length == 0) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(mentors);
+    }
+
+    // Students approved by both mentors
+    @GetMapping("/mentor/{mentorId}/shared-students/{otherMentorId}")
+    public ResponseEntity<long[]> getSharedStudents(@PathVariable Long mentorId, @PathVariable Long otherMentorId) {
+        long[] students = connectionService.getSharedStudents(mentorId, otherMentorId);
+        if (students.length == 0) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(students);
+    }
+
+    // Is there an approved connection between the student and the mentor?
+    @GetMapping("/student/{studentId}/mentor/{mentorId}/approved")
+    public ResponseEntity<Boolean> isApproved(@PathVariable Long studentId, @PathVariable Long mentorId) {
+        return ResponseEntity.ok(connectionService.isApproved(studentId, mentorId));
+    }
+
+    // Size and estimated memory use of the in-memory connection graph
+    @GetMapping("/graph/stats")
+    public ResponseEntity<ConnectionGraphStats> getGraphStats() {
+        return ResponseEntity.ok(connectionService.getGraphStats());
+    }
+
     // Inner classes for request/response
     public static class ConnectionRequest {
         private Long studentId;
@@ -0,0 +1,57 @@
+package com.cdac.cdacConnect.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Outcome of a bulk meeting status change: one entry per requested meeting id, in request order
+public class BulkStatusResult {
+
+    public static final String UPDATED = "UPDATED";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String NOT_OWNER = "NOT_OWNER";
+    public static final String CONFLICT = "CONFLICT";
+    public static final String SLOT_CONFLICT = "SLOT_CONFLICT";
+
+    private String status;
+    private int updated;
+    private List<Outcome> results = new ArrayList<>();
+
+    public BulkStatusResult(String status) {
+        this.status = status;
+    }
+
+    public void add(Long meetingId, String outcome, String currentStatus) {
+        results.add(new Outcome(meetingId, outcome, currentStatus));
+        if (UPDATED.equals(outcome)) {
+            updated++;
+        }
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public List<Outcome> getResults() {
+        return results;
+    }
+
+    public static class Outcome {
+        private Long meetingId;
+        private String outcome;
+        private String currentStatus;
+
+        public Outcome(Long meetingId, String outcome, String currentStatus) {
+            this.meetingId = meetingId;
+            this.outcome = outcome;
+            this.currentStatus = currentStatus;
+        }
+
+        public Long getMeetingId() { return meetingId; }
+        public String getOutcome() { return outcome; }
+        public String getCurrentStatus() { return currentStatus; }
+    }
+}
@@ -0,0 +1,40 @@
+package com.cdac.cdacConnect.dto;
+
+// Hit/miss/put counters of one Hibernate second-level cache region since startup
+public class CacheRegionStats {
+
+    private String region;
+    private long hits;
+    private long misses;
+    private long puts;
+    private long entries;
+
+    public CacheRegionStats(String region, long hits, long misses, long puts, long entries) {
+        this.region = region;
+        this.hits = hits;
+        this.misses = misses;
+        this.puts = puts;
+        this.entries = entries;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getPuts() {
+        return puts;
+    }
+
+    // -1 when the cache provider does not report it
+    public long getEntries() {
+        return entries;
+    }
+}
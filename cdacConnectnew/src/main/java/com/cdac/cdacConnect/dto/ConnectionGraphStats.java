@@ -0,0 +1,33 @@
+package com.cdac.cdacConnect.dto;
+
+// Size of the in-memory connection graph; estimatedBytes is an approximation of its heap use
+public class ConnectionGraphStats {
+
+    private int students;
+    private int mentors;
+    private long edges;
+    private long estimatedBytes;
+
+    public ConnectionGraphStats(int students, int mentors, long edges, long estimatedBytes) {
+        this.students = students;
+        this.mentors = mentors;
+        this.edges = edges;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    public int getStudents() {
+        return students;
+    }
+
+    public int getMentors() {
+        return mentors;
+    }
+
+    public long getEdges() {
+        return edges;
+    }
+
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+}
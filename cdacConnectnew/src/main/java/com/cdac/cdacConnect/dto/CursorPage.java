@@ -0,0 +1,79 @@
+package com.cdac.cdacConnect.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+// One page of a keyset (seek) paginated list; "next" is an opaque cursor for the following page, null on the last page
+public class CursorPage<T> {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private static final String CURSOR_PREFIX = "id:";
+
+    private List<T> items;
+    private String next;
+
+    public CursorPage(List<T> items, String next) {
+        this.items = items;
+        this.next = next;
+    }
+
+    // Build a page from a repository slice, using the last row's id as the next seek position
+    public static <T> CursorPage<T> from(Slice<T> slice, Function<T, Long> idOf) {
+        List<T> content = slice.getContent();
+        String next = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            next = encode(idOf.apply(content.get(content.size() - 1)));
+        }
+        return new CursorPage<>(content, next);
+    }
+
+    // First page of "limit" rows; the seek condition itself lives in the repository query
+    public static Pageable firstPage(int limit) {
+        return PageRequest.of(0, limit);
+    }
+
+    // Clamp a requested page size into [1, MAX_LIMIT]
+    public static int clampLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Decode a cursor into the last seen id; a missing cursor starts from the beginning
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(CURSOR_PREFIX)) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return Long.parseLong(raw.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNext() {
+        return next;
+    }
+}
@@ -0,0 +1,36 @@
+package com.cdac.cdacConnect.dto;
+
+import com.cdac.cdacConnect.entity.Meeting;
+
+// Meeting with both participants; student/mentor are null when the referenced row is missing (left joins)
+public class MeetingDetails {
+
+    private Meeting meeting;
+    private StudentSummary student;
+    private MentorSummary mentor;
+
+    public MeetingDetails(Meeting meeting,
+                          Long studId, String studName, String studEmail, String studPhone,
+                          Long mentorId, String mentorName, String mentorEmail, String mentorPhone,
+                          String calendlyLink) {
+        this.meeting = meeting;
+        if (studId != null) {
+            this.student = new StudentSummary(studId, studName, studEmail, studPhone);
+        }
+        if (mentorId != null) {
+            this.mentor = new MentorSummary(mentorId, mentorName, mentorEmail, mentorPhone, calendlyLink);
+        }
+    }
+
+    public Meeting getMeeting() {
+        return meeting;
+    }
+
+    public StudentSummary getStudent() {
+        return student;
+    }
+
+    public MentorSummary getMentor() {
+        return mentor;
+    }
+}
@@ -0,0 +1,9 @@
+package com.cdac.cdacConnect.dto;
+
+// Projection of just the two participant ids of a meeting
+public interface MeetingParticipants {
+
+    Long getStudentId();
+
+    Long getMentorId();
+}
@@ -0,0 +1,59 @@
+package com.cdac.cdacConnect.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.cdac.cdacConnect.entity.Meeting;
+
+// One page of ranked meeting search results; total counts every match, not just this page
+public class MeetingSearchResult {
+
+    private int total;
+    private int offset;
+    private int limit;
+    private List<Item> items = new ArrayList<>();
+
+    public MeetingSearchResult(int total, int offset, int limit) {
+        this.total = total;
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    public void add(Meeting meeting, double score) {
+        items.add(new Item(meeting, score));
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public List<Item> getItems() {
+        return items;
+    }
+
+    public static class Item {
+        private Meeting meeting;
+        private double score;
+
+        public Item(Meeting meeting, double score) {
+            this.meeting = meeting;
+            this.score = score;
+        }
+
+        public Meeting getMeeting() {
+            return meeting;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+}
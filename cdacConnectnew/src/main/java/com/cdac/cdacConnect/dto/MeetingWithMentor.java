@@ -0,0 +1,24 @@
+package com.cdac.cdacConnect.dto;
+
+import com.cdac.cdacConnect.entity.Meeting;
+
+// Meeting joined with the requested mentor, built by MeetingRepository in one query
+public class MeetingWithMentor {
+
+    private Meeting meeting;
+    private MentorSummary mentor;
+
+    public MeetingWithMentor(Meeting meeting, Long mentorId, String mentorName, String email, String phone,
+                             String calendlyLink) {
+        this.meeting = meeting;
+        this.mentor = new MentorSummary(mentorId, mentorName, email, phone, calendlyLink);
+    }
+
+    public Meeting getMeeting() {
+        return meeting;
+    }
+
+    public MentorSummary getMentor() {
+        return mentor;
+    }
+}
@@ -0,0 +1,23 @@
+package com.cdac.cdacConnect.dto;
+
+import com.cdac.cdacConnect.entity.Meeting;
+
+// Meeting joined with the requesting student, built by MeetingRepository in one query
+public class MeetingWithStudent {
+
+    private Meeting meeting;
+    private StudentSummary student;
+
+    public MeetingWithStudent(Meeting meeting, Long studId, String studName, String email, String phone) {
+        this.meeting = meeting;
+        this.student = new StudentSummary(studId, studName, email, phone);
+    }
+
+    public Meeting getMeeting() {
+        return meeting;
+    }
+
+    public StudentSummary getStudent() {
+        return student;
+    }
+}
@@ -0,0 +1,46 @@
+package com.cdac.cdacConnect.dto;
+
+// One recommended mentor; score is in [0, 1], higher is better
+public class MentorRecommendation {
+
+    private Long mentorId;
+    private String mentorName;
+    private double score;
+    private int matchedSkills;
+    private long pendingMeetings;
+    private boolean connectedToPeers;
+
+    public MentorRecommendation(Long mentorId, String mentorName, double score, int matchedSkills,
+                                long pendingMeetings, boolean connectedToPeers) {
+        this.mentorId = mentorId;
+        this.mentorName = mentorName;
+        this.score = score;
+        this.matchedSkills = matchedSkills;
+        this.pendingMeetings = pendingMeetings;
+        this.connectedToPeers = connectedToPeers;
+    }
+
+    public Long getMentorId() {
+        return mentorId;
+    }
+
+    public String getMentorName() {
+        return mentorName;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public int getMatchedSkills() {
+        return matchedSkills;
+    }
+
+    public long getPendingMeetings() {
+        return pendingMeetings;
+    }
+
+    public boolean isConnectedToPeers() {
+        return connectedToPeers;
+    }
+}
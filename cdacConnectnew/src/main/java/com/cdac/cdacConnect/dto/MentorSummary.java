@@ -0,0 +1,39 @@
+package com.cdac.cdacConnect.dto;
+
+// Public mentor fields returned alongside meetings (no password hash)
+public class MentorSummary {
+
+    private Long mentorId;
+    private String mentorName;
+    private String email;
+    private String phone;
+    private String calendlyLink;
+
+    public MentorSummary(Long mentorId, String mentorName, String email, String phone, String calendlyLink) {
+        this.mentorId = mentorId;
+        this.mentorName = mentorName;
+        this.email = email;
+        this.phone = phone;
+        this.calendlyLink = calendlyLink;
+    }
+
+    public Long getMentorId() {
+        return mentorId;
+    }
+
+    public String getMentorName() {
+        return mentorName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getCalendlyLink() {
+        return calendlyLink;
+    }
+}
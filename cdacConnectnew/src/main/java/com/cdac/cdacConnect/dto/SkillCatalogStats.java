@@ -0,0 +1,39 @@
+package com.cdac.cdacConnect.dto;
+
+// Skill catalog cache counters since startup; version is the catalog stamp the cached copy matches
+public class SkillCatalogStats {
+
+    private int skills;
+    private long version;
+    private long hits;
+    private long misses;
+    private long reloads;
+
+    public SkillCatalogStats(int skills, long version, long hits, long misses, long reloads) {
+        this.skills = skills;
+        this.version = version;
+        this.hits = hits;
+        this.misses = misses;
+        this.reloads = reloads;
+    }
+
+    public int getSkills() {
+        return skills;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getReloads() {
+        return reloads;
+    }
+}
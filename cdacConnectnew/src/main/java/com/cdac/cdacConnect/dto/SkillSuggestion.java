@@ -0,0 +1,27 @@
+package com.cdac.cdacConnect.dto;
+
+// One autocomplete entry for the skill picker
+public class SkillSuggestion {
+
+    private Long skillId;
+    private String skillName;
+    private int mentorCount;
+
+    public SkillSuggestion(Long skillId, String skillName, int mentorCount) {
+        this.skillId = skillId;
+        this.skillName = skillName;
+        this.mentorCount = mentorCount;
+    }
+
+    public Long getSkillId() {
+        return skillId;
+    }
+
+    public String getSkillName() {
+        return skillName;
+    }
+
+    public int getMentorCount() {
+        return mentorCount;
+    }
+}
@@ -0,0 +1,27 @@
+package com.cdac.cdacConnect.dto;
+
+// A skill as listed in the catalog: no mentor list, just how many mentors hold it
+public class SkillSummary {
+
+    private Long skillId;
+    private String skillName;
+    private long mentorCount;
+
+    public SkillSummary(Long skillId, String skillName, long mentorCount) {
+        this.skillId = skillId;
+        this.skillName = skillName;
+        this.mentorCount = mentorCount;
+    }
+
+    public Long getSkillId() {
+        return skillId;
+    }
+
+    public String getSkillName() {
+        return skillName;
+    }
+
+    public long getMentorCount() {
+        return mentorCount;
+    }
+}
@@ -0,0 +1,33 @@
+package com.cdac.cdacConnect.dto;
+
+// Public student fields returned alongside meetings (no password hash)
+public class StudentSummary {
+
+    private Long studId;
+    private String studName;
+    private String email;
+    private String phone;
+
+    public StudentSummary(Long studId, String studName, String email, String phone) {
+        this.studId = studId;
+        this.studName = studName;
+        this.email = email;
+        this.phone = phone;
+    }
+
+    public Long getStudId() {
+        return studId;
+    }
+
+    public String getStudName() {
+        return studName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+}
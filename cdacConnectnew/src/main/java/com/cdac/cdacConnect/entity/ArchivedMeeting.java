@@ -0,0 +1,107 @@
+package com.cdac.cdacConnect.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+// Read-only view of a closed meeting moved to meetings_archive by MeetingLifecycleJob
+@Entity
+@Table(name = "meetings_archive")
+public class ArchivedMeeting {
+
+    @Id
+    @Column(name = "meeting_id")
+    private Long meetingId;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "mentor_id", nullable = false)
+    private Long mentorId;
+
+    @Column(name = "selected_skills", columnDefinition = "TEXT")
+    private String selectedSkills;
+
+    @Column(name = "question", columnDefinition = "TEXT")
+    private String question;
+
+    @Column(name = "status", nullable = false)
+    private String status;
+
+    @Column(name = "request_date", nullable = false)
+    private LocalDateTime requestDate;
+
+    @Column(name = "is_scheduled", nullable = false)
+    private Boolean isScheduled;
+
+    @Column(name = "scheduled_start")
+    private LocalDateTime scheduledStart;
+
+    @Column(name = "scheduled_end")
+    private LocalDateTime scheduledEnd;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    public ArchivedMeeting() {
+    }
+
+    // Copy back into a Meeting so history endpoints return one shape
+    public Meeting toMeeting() {
+        Meeting meeting = new Meeting(studentId, mentorId, selectedSkills, question);
+        meeting.setMeetingId(meetingId);
+        meeting.setStatus(status);
+        meeting.setRequestDate(requestDate);
+        meeting.setIsScheduled(isScheduled);
+        meeting.setScheduledStart(scheduledStart);
+        meeting.setScheduledEnd(scheduledEnd);
+        return meeting;
+    }
+
+    public Long getMeetingId() {
+        return meetingId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public Long getMentorId() {
+        return mentorId;
+    }
+
+    public String getSelectedSkills() {
+        return selectedSkills;
+    }
+
+    public String getQuestion() {
+        return question;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getRequestDate() {
+        return requestDate;
+    }
+
+    public Boolean getIsScheduled() {
+        return isScheduled;
+    }
+
+    public LocalDateTime getScheduledStart() {
+        return scheduledStart;
+    }
+
+    public LocalDateTime getScheduledEnd() {
+        return scheduledEnd;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -30,7 +30,7 @@ public class Meeting {
     private String question; // Student's question
     
     @Column(name = "status", nullable = false)
-    private String status = "PENDING"; // PENDING, APPROVED, REJECTED, COMPLETED, CANCELLED
+    private String status = "PENDING"; // PENDING, APPROVED, REJECTED, COMPLETED, CANCELLED, EXPIRED
     
     @Column(name = "request_date", nullable = false)
     private LocalDateTime requestDate;
@@ -38,6 +38,12 @@ public class Meeting {
     @Column(name = "is_scheduled", nullable = false)
     private Boolean isScheduled = false;
     
+    @Column(name = "scheduled_start")
+    private LocalDateTime scheduledStart; // Requested slot start (optional)
+    
+    @Column(name = "scheduled_end")
+    private LocalDateTime scheduledEnd; // Requested slot end, exclusive (optional)
+    
     // Default constructor
     public Meeting() {
         this.requestDate = LocalDateTime.now();
@@ -119,6 +125,26 @@ public class Meeting {
     public void setIsScheduled(Boolean isScheduled) {
         this.isScheduled = isScheduled;
     }
+
+    public LocalDateTime getScheduledStart() {
+        return scheduledStart;
+    }
+
+    public void setScheduledStart(LocalDateTime scheduledStart) {
+        this.scheduledStart = scheduledStart;
+    }
+
+    public LocalDateTime getScheduledEnd() {
+        return scheduledEnd;
+    }
+
+    public void setScheduledEnd(LocalDateTime scheduledEnd) {
+        this.scheduledEnd = scheduledEnd;
+    }
+
+    public boolean hasTimeSlot() {
+        return scheduledStart != null && scheduledEnd != null;
+    }
     
     @Override
     public String toString() {
@@ -131,6 +157,8 @@ public class Meeting {
                 ", status='" + status + '\'' +
                 ", requestDate=" + requestDate +
                 ", isScheduled=" + isScheduled +
+                ", scheduledStart=" + scheduledStart +
+                ", scheduledEnd=" + scheduledEnd +
                 '}';
     }
 } 
\ No newline at end of file
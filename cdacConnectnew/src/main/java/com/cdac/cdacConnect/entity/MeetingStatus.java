@@ -0,0 +1,57 @@
+package com.cdac.cdacConnect.entity;
+
+import java.util.List;
+
+// Meeting lifecycle: PENDING -> APPROVED/REJECTED, APPROVED -> COMPLETED, PENDING/APPROVED -> CANCELLED,
+// PENDING -> EXPIRED (set by MeetingLifecycleJob when a mentor never answers)
+public enum MeetingStatus {
+    PENDING,
+    APPROVED,
+    REJECTED,
+    COMPLETED,
+    CANCELLED,
+    EXPIRED;
+
+    // Statuses a meeting must currently be in to move to this status
+    public List<String> sourceStatuses() {
+        switch (this) {
+            case APPROVED:
+            case REJECTED:
+            case EXPIRED:
+                return List.of(PENDING.name());
+            case COMPLETED:
+                return List.of(APPROVED.name());
+            case CANCELLED:
+                return List.of(PENDING.name(), APPROVED.name());
+            default:
+                return List.of();
+        }
+    }
+
+    // Statuses no further transition can leave (eligible for archiving)
+    public static List<String> closedStatuses() {
+        return List.of(REJECTED.name(), COMPLETED.name(), CANCELLED.name(), EXPIRED.name());
+    }
+
+    // EXPIRED is only produced by MeetingLifecycleJob; clients may request every other status
+    public boolean isClientRequestable() {
+        return this != EXPIRED;
+    }
+
+    public boolean canTransitionFrom(String status) {
+        return sourceStatuses().contains(status);
+    }
+
+    // Parse a status name, case-insensitively; returns null for unknown values
+    public static MeetingStatus fromName(String status) {
+        if (status == null) {
+            return null;
+        }
+        for (MeetingStatus value : values()) {
+            if (value.name().equalsIgnoreCase(status.trim())) {
+                return value;
+            }
+        }
+        return null;
+    }
+}
@@ -2,6 +2,9 @@ package com.cdac.cdacConnect.entity;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.CascadeType;
@@ -14,6 +17,7 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "mentors")
 public class Mentor {
 	
 	@Id                                                    
@@ -37,6 +41,7 @@ public class Mentor {
         inverseJoinColumns = @JoinColumn(name = "skill_id")
     )
     @JsonIgnore
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "mentor-skills")
 	private List<Skill> skills;
 
 	public Long getMentorId() {
@@ -2,13 +2,22 @@ package com.cdac.cdacConnect.entity;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "skills")
+@Table(name = "skill", uniqueConstraints = @UniqueConstraint(name = "uk_skill_name", columnNames = "skill_name"))
 public class Skill {
 	
 	@Id
@@ -17,6 +26,8 @@ public class Skill {
 	
 	private String skillName;
 	
+	// Never serialized: listing it would load every mentor of the skill (see GET /api/skills/{id}/mentors)
+	@JsonIgnore
 	@ManyToMany(mappedBy = "skills")
 	private List<Mentor> mentors;
 
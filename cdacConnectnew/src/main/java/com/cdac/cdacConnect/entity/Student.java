@@ -1,11 +1,15 @@
 package com.cdac.cdacConnect.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "students")
 public class Student {
 	
 	@Id                                                    
@@ -2,9 +2,14 @@ package com.cdac.cdacConnect.entity;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
-@Table(name = "student_mentor_connections")
+@Table(name = "student_mentor_connections", uniqueConstraints = @UniqueConstraint(
+        name = "uk_connections_student_mentor", columnNames = { "student_id", "mentor_id" }))
 public class StudentMentorConnection {
     
     @Id
@@ -35,6 +40,16 @@ public class StudentMentorConnection {
     @Column(name = "status", nullable = false)
     private String status = "PENDING"; // PENDING, APPROVED, REJECTED
     
+    // The selected skills as rows of connection_skill, for filtering connections by skill
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(
+        name = "connection_skill",
+        joinColumns = @JoinColumn(name = "connection_id"),
+        inverseJoinColumns = @JoinColumn(name = "skill_id")
+    )
+    @JsonIgnore
+    private Set<Skill> skills = new HashSet<>();
+    
     // Default constructor
     public StudentMentorConnection() {
         this.connectionDate = LocalDateTime.now();
@@ -125,6 +140,14 @@ public class StudentMentorConnection {
         this.status = status;
     }
     
+    public Set<Skill> getSkills() {
+        return skills;
+    }
+    
+    public void setSkills(Set<Skill> skills) {
+        this.skills = skills;
+    }
+    
     @Override
     public String toString() {
         return "StudentMentorConnection{" +
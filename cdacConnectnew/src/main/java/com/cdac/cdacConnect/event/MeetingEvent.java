@@ -0,0 +1,64 @@
+package com.cdac.cdacConnect.event;
+
+import java.time.LocalDateTime;
+
+// Published by MeetingService after a meeting is created or changes status
+public class MeetingEvent {
+
+    public static final String CREATED = "CREATED";
+    public static final String STATUS_CHANGED = "STATUS_CHANGED";
+
+    private String type;
+    private Long meetingId;
+    private Long mentorId; // may be null when the writer did not know it; resolved by MeetingEventBus
+    private Long studentId;
+    private String status;
+    private LocalDateTime occurredAt;
+
+    public MeetingEvent(String type, Long meetingId, Long mentorId, Long studentId, String status) {
+        this.type = type;
+        this.meetingId = meetingId;
+        this.mentorId = mentorId;
+        this.studentId = studentId;
+        this.status = status;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Long getMeetingId() {
+        return meetingId;
+    }
+
+    public Long getMentorId() {
+        return mentorId;
+    }
+
+    public void setMentorId(Long mentorId) {
+        this.mentorId = mentorId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String toString() {
+        return "MeetingEvent{" +
+                "type='" + type + '\'' +
+                ", meetingId=" + meetingId +
+                ", mentorId=" + mentorId +
+                ", status='" + status + '\'' +
+                '}';
+    }
+}
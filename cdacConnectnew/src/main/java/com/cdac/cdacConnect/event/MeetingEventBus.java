@@ -0,0 +1,191 @@
+package com.cdac.cdacConnect.event;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.cdac.cdacConnect.repository.MeetingRepository;
+
+import jakarta.annotation.PreDestroy;
+
+// In-process fan-out of MeetingEvents to mentors' SSE streams.
+// Each subscriber has a bounded buffer; when a slow client overflows it the oldest events are
+// dropped and a "resync" event tells the client to reload its list once.
+@Component
+public class MeetingEventBus {
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private final MeetingRepository meetingRepository;
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService heartbeat;
+
+    public MeetingEventBus(MeetingRepository meetingRepository,
+                           @Value("${meetings.stream.buffer-size:64}") int bufferSize,
+                           @Value("${meetings.stream.timeout-ms:1800000}") long timeoutMs,
+                           @Value("${meetings.stream.heartbeat-seconds:20}") long heartbeatSeconds) {
+        this.meetingRepository = meetingRepository;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        this.dispatcher = Executors.newFixedThreadPool(2, daemon("meeting-stream"));
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(daemon("meeting-stream-heartbeat"));
+        this.heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    // Open a stream of meeting events for one mentor
+    public SseEmitter subscribe(Long mentorId) {
+        return subscribe(mentorId, new SseEmitter(timeoutMs));
+    }
+
+    SseEmitter subscribe(Long mentorId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(mentorId, emitter);
+        subscribers.computeIfAbsent(mentorId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        return emitter;
+    }
+
+    public int subscriberCount(Long mentorId) {
+        Set<Subscriber> set = subscribers.get(mentorId);
+        return set == null ? 0 : set.size();
+    }
+
+    // Runs after the publishing transaction commits, or immediately when there is none
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMeetingEvent(MeetingEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        if (event.getMentorId() == null) {
+            Optional<Long> mentorId = meetingRepository.findMentorIdByMeetingId(event.getMeetingId());
+            if (mentorId.isEmpty()) {
+                return;
+            }
+            event.setMentorId(mentorId.get());
+        }
+        Set<Subscriber> set = subscribers.get(event.getMentorId());
+        if (set == null) {
+            return;
+        }
+        for (Subscriber subscriber : set) {
+            subscriber.offer(event);
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            if (subscriber.overflowed) {
+                subscriber.overflowed = false;
+                subscriber.emitter.send(SseEmitter.event().name("resync").data("Events were dropped; reload meeting requests"));
+            }
+            MeetingEvent event;
+            while ((event = subscriber.buffer.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .name("meeting")
+                        .id(String.valueOf(event.getMeetingId()))
+                        .data(event, MediaType.APPLICATION_JSON));
+            }
+        } catch (IOException | IllegalStateException e) {
+            close(subscriber);
+        } finally {
+            subscriber.scheduled.set(false);
+            if (!subscriber.buffer.isEmpty() && subscriber.open) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (Set<Subscriber> set : subscribers.values()) {
+            for (Subscriber subscriber : set) {
+                try {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    close(subscriber);
+                }
+            }
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        remove(subscriber);
+        try {
+            subscriber.emitter.complete();
+        } catch (IllegalStateException e) {
+            // already completed
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.open = false;
+        subscribers.computeIfPresent(subscriber.mentorId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        dispatcher.shutdownNow();
+        for (Set<Subscriber> set : subscribers.values()) {
+            set.forEach(subscriber -> subscriber.emitter.complete());
+        }
+        subscribers.clear();
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private final class Subscriber {
+        private final Long mentorId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<MeetingEvent> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean overflowed;
+        private volatile boolean open = true;
+
+        private Subscriber(Long mentorId, SseEmitter emitter) {
+            this.mentorId = mentorId;
+            this.emitter = emitter;
+        }
+
+        // Drop the oldest buffered events rather than block the publisher
+        private void offer(MeetingEvent event) {
+            while (!buffer.offer(event)) {
+                buffer.poll();
+                overflowed = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.cdac.cdacConnect.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.cdac.cdacConnect.entity.ArchivedMeeting;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface ArchivedMeetingRepository extends JpaRepository<ArchivedMeeting, Long> {
+
+    // Find archived meetings by student ID
+    List<ArchivedMeeting> findByStudentIdOrderByRequestDateAsc(Long studentId);
+
+    // Find archived meetings by mentor ID
+    List<ArchivedMeeting> findByMentorIdOrderByRequestDateAsc(Long mentorId);
+
+    // Keyset page of archived meetings after the given id
+    Slice<ArchivedMeeting> findByMeetingIdGreaterThanOrderByMeetingIdAsc(Long meetingId, Pageable pageable);
+
+    // Forward-only stream for exports, with the same filters and fetch size as MeetingRepository.streamForExport
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = MeetingRepository.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT m FROM ArchivedMeeting m WHERE (:status IS NULL OR m.status = :status) "
+            + "AND (:from IS NULL OR m.requestDate >= :from) AND (:to IS NULL OR m.requestDate < :to) "
+            + "ORDER BY m.meetingId")
+    Stream<ArchivedMeeting> streamForExport(@Param("status") String status, @Param("from") LocalDateTime from,
+                                            @Param("to") LocalDateTime to);
+}
@@ -1,14 +1,35 @@
 package com.cdac.cdacConnect.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.cdac.cdacConnect.dto.MeetingDetails;
+import com.cdac.cdacConnect.dto.MeetingParticipants;
+import com.cdac.cdacConnect.dto.MeetingWithMentor;
+import com.cdac.cdacConnect.dto.MeetingWithStudent;
 import com.cdac.cdacConnect.entity.Meeting;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface MeetingRepository extends JpaRepository<Meeting, Long> {
+
+    String EXPORT_FETCH_SIZE = "500";
     
     // Find meetings by student ID
     List<Meeting> findByStudentId(Long studentId);
@@ -30,4 +51,94 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
     
     // Find upcoming meetings for a student
     List<Meeting> findByStudentIdAndStatusInOrderByRequestDateAsc(Long studentId, List<String> statuses);
-} 
\ No newline at end of file
+    
+    // Find meetings for a mentor joined with student details (single query)
+    @Query("SELECT new com.cdac.cdacConnect.dto.MeetingWithStudent(m, s.studId, s.studName, s.email, s.phone) "
+         + "FROM Meeting m JOIN Student s ON s.studId = m.studentId "
+         + "WHERE m.mentorId = :mentorId ORDER BY m.meetingId")
+    List<MeetingWithStudent> findWithStudentByMentorId(@Param("mentorId") Long mentorId);
+    
+    // Find meetings for a student joined with mentor details (single query)
+    @Query("SELECT new com.cdac.cdacConnect.dto.MeetingWithMentor(m, t.mentorId, t.mentorName, t.email, t.phone, t.calendlyLink) "
+         + "FROM Meeting m JOIN Mentor t ON t.mentorId = m.mentorId "
+         + "WHERE m.studentId = :studentId ORDER BY m.meetingId")
+    List<MeetingWithMentor> findWithMentorByStudentId(@Param("studentId") Long studentId);
+    
+    // Find a meeting with student and mentor details (single query)
+    @Query("SELECT new com.cdac.cdacConnect.dto.MeetingDetails(m, "
+         + "s.studId, s.studName, s.email, s.phone, "
+         + "t.mentorId, t.mentorName, t.email, t.phone, t.calendlyLink) "
+         + "FROM Meeting m "
+         + "LEFT JOIN Student s ON s.studId = m.studentId "
+         + "LEFT JOIN Mentor t ON t.mentorId = m.mentorId "
+         + "WHERE m.meetingId = :meetingId")
+    Optional<MeetingDetails> findDetailsById(@Param("meetingId") Long meetingId);
+    
+    // Keyset page of meetings after the given id
+    Slice<Meeting> findByMeetingIdGreaterThanOrderByMeetingIdAsc(Long meetingId, Pageable pageable);
+    
+    // Keyset page of meetings with a status after the given id
+    Slice<Meeting> findByStatusAndMeetingIdGreaterThanOrderByMeetingIdAsc(String status, Long meetingId, Pageable pageable);
+    
+    // Atomically move a meeting to a new status if it is currently in one of the allowed source statuses.
+    // A null studentId/mentorId skips that ownership check. Returns the number of rows updated (0 or 1).
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE Meeting m SET m.status = :toStatus "
+         + "WHERE m.meetingId = :meetingId AND m.status IN :fromStatuses "
+         + "AND (:studentId IS NULL OR m.studentId = :studentId) "
+         + "AND (:mentorId IS NULL OR m.mentorId = :mentorId)")
+    int transitionStatus(@Param("meetingId") Long meetingId,
+                         @Param("fromStatuses") List<String> fromStatuses,
+                         @Param("toStatus") String toStatus,
+                         @Param("studentId") Long studentId,
+                         @Param("mentorId") Long mentorId);
+    
+    // Lock a batch of meetings (SELECT ... FOR UPDATE) so a bulk transition sees a stable view
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Meeting> findByMeetingIdIn(List<Long> meetingIds);
+    
+    // Move every listed meeting that is still in an allowed source status, in one statement
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE Meeting m SET m.status = :toStatus "
+         + "WHERE m.meetingId IN :meetingIds AND m.status IN :fromStatuses")
+    int transitionStatusBulk(@Param("meetingIds") List<Long> meetingIds,
+                             @Param("fromStatuses") List<String> fromStatuses,
+                             @Param("toStatus") String toStatus);
+    
+    // Look up only the owning mentor of a meeting
+    @Query("SELECT m.mentorId FROM Meeting m WHERE m.meetingId = :meetingId")
+    Optional<Long> findMentorIdByMeetingId(@Param("meetingId") Long meetingId);
+    
+    // Look up only the participant ids of a meeting
+    Optional<MeetingParticipants> findParticipantsByMeetingId(Long meetingId);
+    
+    // Lock the oldest chunk of meetings in a status requested before a cutoff (used by the lifecycle job)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Meeting> findByStatusAndRequestDateBeforeOrderByMeetingIdAsc(String status, LocalDateTime before, Pageable pageable);
+    
+    // Approved meetings of a mentor that have a time slot
+    @Query("SELECT m FROM Meeting m WHERE m.mentorId = :mentorId AND m.status = 'APPROVED' "
+         + "AND m.scheduledStart IS NOT NULL AND m.scheduledEnd IS NOT NULL")
+    List<Meeting> findApprovedSlotsByMentorId(@Param("mentorId") Long mentorId);
+    
+    // End of the mentor's approved slot with the greatest start before end (pass PageRequest.of(0, 1)).
+    // Approved slots never overlap, so [start, end) clashes with one of them only if it clashes with this one;
+    // idx_meetings_mentor_status_slot answers it by reading a single row.
+    @Query("SELECT m.scheduledEnd FROM Meeting m WHERE m.mentorId = :mentorId AND m.status = 'APPROVED' "
+         + "AND m.meetingId <> :meetingId AND m.scheduledStart < :end AND m.scheduledEnd IS NOT NULL "
+         + "ORDER BY m.scheduledStart DESC")
+    List<LocalDateTime> findLatestApprovedEndBefore(@Param("mentorId") Long mentorId, @Param("meetingId") Long meetingId,
+                                                    @Param("end") LocalDateTime end, Pageable pageable);
+
+    // Forward-only stream for exports, fetched from the server EXPORT_FETCH_SIZE rows at a time; filters are optional
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT m FROM Meeting m WHERE (:status IS NULL OR m.status = :status) "
+            + "AND (:from IS NULL OR m.requestDate >= :from) AND (:to IS NULL OR m.requestDate < :to) "
+            + "ORDER BY m.meetingId")
+    Stream<Meeting> streamForExport(@Param("status") String status, @Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to);
+}
@@ -1,13 +1,60 @@
 package com.cdac.cdacConnect.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.cdac.cdacConnect.dto.MentorSummary;
 import com.cdac.cdacConnect.entity.Mentor;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface MentorRepository extends JpaRepository<Mentor, Long> {
+    // Query-cached: the result is reused until the mentor table changes (login and profile lookups)
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "email-lookups") })
     Optional<Mentor> findByEmail(String email);
+
+    // Lock the mentor row (SELECT ... FOR UPDATE) to serialize slot approvals for one mentor across nodes
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Mentor> findWithLockByMentorId(Long mentorId);
+
+    // Keyset page of mentors after the given id
+    Slice<Mentor> findByMentorIdGreaterThanOrderByMentorIdAsc(Long mentorId, Pageable pageable);
+
+    // Keyset page of the mentors holding a skill, as public fields only
+    @Query("SELECT new com.cdac.cdacConnect.dto.MentorSummary(m.mentorId, m.mentorName, m.email, m.phone, m.calendlyLink) "
+         + "FROM Mentor m JOIN m.skills s WHERE s.skillId = :skillId AND m.mentorId > :afterId ORDER BY m.mentorId")
+    Slice<MentorSummary> findSummariesBySkillId(@Param("skillId") Long skillId, @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    // Whether any mentor holds the skill (stops at the first match)
+    boolean existsBySkills_SkillId(Long skillId);
+
+    // Unlink the named skills (lower-cased names) from a mentor: deletes exactly those mentor_skill rows
+    // in one statement, without loading or rewriting the mentor's other links
+    // The native-spaces hint stops Hibernate from invalidating every second-level cache region after this
+    // statement; the caller evicts the one cached Mentor.skills collection it changed
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "mentor_skill"))
+    @Query(value = "DELETE FROM mentor_skill WHERE mentor_id = :mentorId "
+         + "AND skill_id IN (SELECT s.skill_id FROM skill s WHERE LOWER(s.skill_name) IN :names)", nativeQuery = true)
+    int deleteSkillLinks(@Param("mentorId") Long mentorId, @Param("names") Collection<String> names);
+
+    // Newest mentor ids, used to warm the existence cache
+    @Query("SELECT m.mentorId FROM Mentor m ORDER BY m.mentorId DESC")
+    List<Long> findNewestIds(Pageable pageable);
 }
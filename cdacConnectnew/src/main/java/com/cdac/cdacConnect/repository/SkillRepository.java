@@ -1,13 +1,43 @@
 package com.cdac.cdacConnect.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.cdac.cdacConnect.dto.SkillSummary;
 import com.cdac.cdacConnect.entity.Skill;
 
 @Repository
 public interface SkillRepository extends JpaRepository<Skill, Long> {
 	Optional<Skill> findBySkillName(String skillName);
+
+	// Skills with any of the given names, in one query
+	List<Skill> findBySkillNameIn(Collection<String> skillNames);
+
+	// All skills with their mentor counts, in one aggregate query
+	@Query("SELECT new com.cdac.cdacConnect.dto.SkillSummary(s.skillId, s.skillName, COUNT(m)) "
+		 + "FROM Skill s LEFT JOIN s.mentors m GROUP BY s.skillId, s.skillName ORDER BY s.skillId")
+	List<SkillSummary> findAllSummaries();
+
+	// Keyset page of skills after the given id, with their mentor counts
+	@Query("SELECT new com.cdac.cdacConnect.dto.SkillSummary(s.skillId, s.skillName, COUNT(m)) "
+		 + "FROM Skill s LEFT JOIN s.mentors m WHERE s.skillId > :skillId "
+		 + "GROUP BY s.skillId, s.skillName ORDER BY s.skillId")
+	Slice<SkillSummary> findSummariesAfter(@Param("skillId") Long skillId, Pageable pageable);
+
+	// One skill with its mentor count
+	@Query("SELECT new com.cdac.cdacConnect.dto.SkillSummary(s.skillId, s.skillName, COUNT(m)) "
+		 + "FROM Skill s LEFT JOIN s.mentors m WHERE s.skillId = :skillId GROUP BY s.skillId, s.skillName")
+	Optional<SkillSummary> findSummaryById(@Param("skillId") Long skillId);
+
+	// Skills whose lower-cased name is in the given (lower-cased) names
+	@Query("SELECT s FROM Skill s WHERE LOWER(s.skillName) IN :names")
+	List<Skill> findByLowerSkillNameIn(@Param("names") Collection<String> names);
 }
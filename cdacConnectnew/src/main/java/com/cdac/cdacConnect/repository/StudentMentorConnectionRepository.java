@@ -1,13 +1,23 @@
 package com.cdac.cdacConnect.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.cdac.cdacConnect.entity.StudentMentorConnection;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface StudentMentorConnectionRepository extends JpaRepository<StudentMentorConnection, Long> {
     
@@ -34,4 +44,30 @@ public interface StudentMentorConnectionRepository extends JpaRepository<Student
     
     // Find connections by mentor ID and status
     List<StudentMentorConnection> findByMentorIdAndStatus(Long mentorId, String status);
-} 
\ No newline at end of file
+    
+    // Keyset page of connections after the given id
+    Slice<StudentMentorConnection> findByConnectionIdGreaterThanOrderByConnectionIdAsc(Long connectionId, Pageable pageable);
+    
+    // Whether any connection lists the skill (stops at the first connection_skill row)
+    boolean existsBySkills_SkillId(Long skillId);
+
+    // Connections that include a skill, optionally with one status (uses the connection_skill index)
+    @Query("SELECT c FROM StudentMentorConnection c JOIN c.skills s WHERE s.skillId = :skillId "
+            + "AND (:status IS NULL OR c.status = :status) ORDER BY c.connectionId")
+    List<StudentMentorConnection> findBySkillId(@Param("skillId") Long skillId, @Param("status") String status);
+    
+    // Distinct students who connected with a mentor for a skill, optionally with one status
+    @Query("SELECT DISTINCT c.studentId FROM StudentMentorConnection c JOIN c.skills s WHERE s.skillId = :skillId "
+            + "AND (:status IS NULL OR c.status = :status) ORDER BY c.studentId")
+    List<Long> findStudentIdsBySkillId(@Param("skillId") Long skillId, @Param("status") String status);
+    
+    // Forward-only stream for exports, fetched from the server in batches; filters are optional
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = MeetingRepository.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT c FROM StudentMentorConnection c WHERE (:status IS NULL OR c.status = :status) "
+            + "AND (:from IS NULL OR c.connectionDate >= :from) AND (:to IS NULL OR c.connectionDate < :to) "
+            + "ORDER BY c.connectionId")
+    Stream<StudentMentorConnection> streamForExport(@Param("status") String status, @Param("from") LocalDateTime from,
+                                                    @Param("to") LocalDateTime to);
+}
@@ -1,13 +1,31 @@
 package com.cdac.cdacConnect.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.cdac.cdacConnect.entity.Student;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
+	// Query-cached: the result is reused until the student table changes (login and profile lookups)
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "email-lookups") })
 	Optional<Student> findByEmail(String email);
+
+	// Keyset page of students after the given id
+	Slice<Student> findByStudIdGreaterThanOrderByStudIdAsc(Long studId, Pageable pageable);
+
+	// Newest student ids, used to warm the existence cache
+	@Query("SELECT s.studId FROM Student s ORDER BY s.studId DESC")
+	List<Long> findNewestIds(Pageable pageable);
 }
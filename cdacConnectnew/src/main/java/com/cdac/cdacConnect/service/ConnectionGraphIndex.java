@@ -0,0 +1,506 @@
+package com.cdac.cdacConnect.service;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.cdac.cdacConnect.dto.ConnectionGraphStats;
+import com.cdac.cdacConnect.entity.StudentMentorConnection;
+
+// In-memory adjacency index of APPROVED student-mentor connections, in both directions.
+// Each side is a primitive long -> sorted long[] hash map, so an edge costs two longs (plus per-node
+// array headers) instead of two boxed Longs in two lists; for 1M edges over 100k students and 10k mentors
+// that is about 21 MB (see stats()). Neighbour arrays are copied on write and never changed in place.
+// StudentMentorConnectionService keeps it in sync after each commit; rebuild() reloads it from the table.
+@Component
+public class ConnectionGraphIndex {
+
+    private static final String APPROVED = "APPROVED";
+    private static final int REBUILD_FETCH_SIZE = 1000;
+    private static final long[] EMPTY = new long[0];
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${connections.graph.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Graph current = new Graph();
+    // Non-null while a rebuild runs: every change applied meanwhile, replayed onto the loaded graph before the swap
+    private List<Consumer<Graph>> pendingChanges;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    // Is there an APPROVED connection between the pair?
+    public boolean isApproved(long studentId, long mentorId) {
+        lock.readLock().lock();
+        try {
+            return Arrays.binarySearch(current.mentorsOf(studentId), mentorId) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Mentors a student is connected to, ascending
+    public long[] mentorsOf(long studentId) {
+        lock.readLock().lock();
+        try {
+            return current.mentorsOf(studentId).clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Students a mentor is connected to, ascending
+    public long[] studentsOf(long mentorId) {
+        lock.readLock().lock();
+        try {
+            return current.studentsOf(mentorId).clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Other students who share at least one mentor with the student, ascending
+    public long[] peersOf(long studentId) {
+        lock.readLock().lock();
+        try {
+            LongBuffer peers = new LongBuffer();
+            for (long mentorId : current.mentorsOf(studentId)) {
+                peers.addAll(current.studentsOf(mentorId));
+            }
+            return peers.sortedDistinctWithout(studentId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Mentors of the student's peers that the student is not connected to yet, ascending
+    public long[] peerMentorsOf(long studentId) {
+        lock.readLock().lock();
+        try {
+            long[] ownMentors = current.mentorsOf(studentId);
+            LongBuffer mentors = new LongBuffer();
+            for (long mentorId : ownMentors) {
+                for (long peerId : current.studentsOf(mentorId)) {
+                    if (peerId != studentId) {
+                        mentors.addAll(current.mentorsOf(peerId));
+                    }
+                }
+            }
+            return difference(mentors.sortedDistinctWithout(null), ownMentors);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Students connected to both mentors, ascending
+    public long[] sharedStudents(long mentorId, long otherMentorId) {
+        lock.readLock().lock();
+        try {
+            return intersection(current.studentsOf(mentorId), current.studentsOf(otherMentorId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public ConnectionGraphStats stats() {
+        lock.readLock().lock();
+        try {
+            return new ConnectionGraphStats(current.byStudent.size(), current.byMentor.size(), current.edges,
+                    current.byStudent.estimatedBytes() + current.byMentor.estimatedBytes());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Apply a saved connection's status once its transaction commits: APPROVED adds the edge, anything else drops it
+    public void updateAfterCommit(StudentMentorConnection connection) {
+        long studentId = connection.getStudentId();
+        long mentorId = connection.getMentorId();
+        boolean approved = APPROVED.equals(connection.getStatus());
+        afterCommit(() -> {
+            if (approved) {
+                add(studentId, mentorId);
+            } else {
+                remove(studentId, mentorId);
+            }
+        });
+    }
+
+    // Drop a deleted connection once its transaction commits
+    public void removeAfterCommit(StudentMentorConnection connection) {
+        long studentId = connection.getStudentId();
+        long mentorId = connection.getMentorId();
+        afterCommit(() -> remove(studentId, mentorId));
+    }
+
+    // Reload from student_mentor_connections; queries keep using the old graph until the swap.
+    // Each side is read in key order, so neighbour lists arrive sorted and are stored without re-sorting.
+    public long rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            Graph loaded = new Graph();
+            load(loaded, "SELECT student_id, mentor_id FROM student_mentor_connections WHERE status = 'APPROVED' "
+                    + "ORDER BY student_id, mentor_id", true);
+            load(loaded, "SELECT mentor_id, student_id FROM student_mentor_connections WHERE status = 'APPROVED' "
+                    + "ORDER BY mentor_id, student_id", false);
+
+            lock.writeLock().lock();
+            try {
+                // An edge approved or dropped while the scans ran may be in one side, both or neither; add and
+                // remove are idempotent and fix up both sides, so replaying them in order gives the committed state
+                for (Consumer<Graph> change : pendingChanges) {
+                    change.accept(loaded);
+                }
+                current = loaded;
+                return current.edges;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    void add(long studentId, long mentorId) {
+        apply(graph -> graph.add(studentId, mentorId));
+    }
+
+    void remove(long studentId, long mentorId) {
+        apply(graph -> graph.remove(studentId, mentorId));
+    }
+
+    private void apply(Consumer<Graph> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(current);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void load(Graph graph, String sql, boolean studentSide) {
+        LongBuffer neighbours = new LongBuffer();
+        long[] key = { 0 };
+        boolean[] hasKey = { false };
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(REBUILD_FETCH_SIZE);
+            return statement;
+        }, rs -> {
+            long node = rs.getLong(1);
+            if (hasKey[0] && node != key[0]) {
+                graph.putLoaded(studentSide, key[0], neighbours.sortedDistinctWithout(null));
+                neighbours.clear();
+            }
+            key[0] = node;
+            hasKey[0] = true;
+            neighbours.add(rs.getLong(2));
+        });
+        if (hasKey[0]) {
+            graph.putLoaded(studentSide, key[0], neighbours.sortedDistinctWithout(null));
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    static long[] intersection(long[] a, long[] b) {
+        long[] out = new long[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    static long[] difference(long[] a, long[] b) {
+        long[] out = new long[a.length];
+        int j = 0;
+        int n = 0;
+        for (long value : a) {
+            while (j < b.length && b[j] < value) {
+                j++;
+            }
+            if (j == b.length || b[j] != value) {
+                out[n++] = value;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    // Both directions of the approved edges; edges counts each pair once
+    private static final class Graph {
+        private final LongArrayMap byStudent = new LongArrayMap();
+        private final LongArrayMap byMentor = new LongArrayMap();
+        private long edges;
+
+        private long[] mentorsOf(long studentId) {
+            long[] mentors = byStudent.get(studentId);
+            return mentors == null ? EMPTY : mentors;
+        }
+
+        private long[] studentsOf(long mentorId) {
+            long[] students = byMentor.get(mentorId);
+            return students == null ? EMPTY : students;
+        }
+
+        private void add(long studentId, long mentorId) {
+            if (byStudent.addTo(studentId, mentorId)) {
+                byMentor.addTo(mentorId, studentId);
+                edges++;
+            }
+        }
+
+        private void remove(long studentId, long mentorId) {
+            if (byStudent.removeFrom(studentId, mentorId)) {
+                byMentor.removeFrom(mentorId, studentId);
+                edges--;
+            }
+        }
+
+        // Store one node's neighbour list as read by rebuild(); edges are counted on the student side
+        private void putLoaded(boolean studentSide, long node, long[] neighbours) {
+            (studentSide ? byStudent : byMentor).put(node, neighbours);
+            if (studentSide) {
+                edges += neighbours.length;
+            }
+        }
+    }
+
+    // Open-addressing (linear probing) map from long to a sorted long[]; a null value marks a free slot
+    static final class LongArrayMap {
+        private static final int MIN_CAPACITY = 16;
+
+        private long[] keys = new long[MIN_CAPACITY];
+        private long[][] values = new long[MIN_CAPACITY][];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        long[] get(long key) {
+            int slot = find(key);
+            return slot < 0 ? null : values[slot];
+        }
+
+        void put(long key, long[] value) {
+            int slot = find(key);
+            if (slot >= 0) {
+                values[slot] = value;
+                return;
+            }
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+            }
+            slot = index(key, keys.length);
+            while (values[slot] != null) {
+                slot = (slot + 1) & (keys.length - 1);
+            }
+            keys[slot] = key;
+            values[slot] = value;
+            size++;
+        }
+
+        // Insert value into key's sorted array; false if it was already there
+        boolean addTo(long key, long value) {
+            long[] array = get(key);
+            if (array == null) {
+                put(key, new long[] { value });
+                return true;
+            }
+            int position = Arrays.binarySearch(array, value);
+            if (position >= 0) {
+                return false;
+            }
+            position = -position - 1;
+            long[] grown = new long[array.length + 1];
+            System.arraycopy(array, 0, grown, 0, position);
+            grown[position] = value;
+            System.arraycopy(array, position, grown, position + 1, array.length - position);
+            put(key, grown);
+            return true;
+        }
+
+        // Remove value from key's sorted array, dropping the key when it empties; false if it was not there
+        boolean removeFrom(long key, long value) {
+            long[] array = get(key);
+            int position = array == null ? -1 : Arrays.binarySearch(array, value);
+            if (position < 0) {
+                return false;
+            }
+            if (array.length == 1) {
+                remove(key);
+                return true;
+            }
+            long[] shrunk = new long[array.length - 1];
+            System.arraycopy(array, 0, shrunk, 0, position);
+            System.arraycopy(array, position + 1, shrunk, position, array.length - position - 1);
+            put(key, shrunk);
+            return true;
+        }
+
+        void remove(long key) {
+            int slot = find(key);
+            if (slot < 0) {
+                return;
+            }
+            values[slot] = null;
+            size--;
+            // Backward-shift deletion: move later entries of the probe run into the gap
+            int mask = keys.length - 1;
+            int gap = slot;
+            int next = (gap + 1) & mask;
+            while (values[next] != null) {
+                int home = index(keys[next], keys.length);
+                if (((next - home) & mask) >= ((next - gap) & mask)) {
+                    keys[gap] = keys[next];
+                    values[gap] = values[next];
+                    values[next] = null;
+                    gap = next;
+                }
+                next = (next + 1) & mask;
+            }
+        }
+
+        // Approximate heap use with compressed oops: the two slot arrays plus every neighbour array
+        long estimatedBytes() {
+            long bytes = align(16 + 8L * keys.length) + align(16 + 4L * values.length);
+            for (long[] value : values) {
+                if (value != null) {
+                    bytes += align(16 + 8L * value.length);
+                }
+            }
+            return bytes;
+        }
+
+        private int find(long key) {
+            int mask = keys.length - 1;
+            int slot = index(key, keys.length);
+            while (values[slot] != null) {
+                if (keys[slot] == key) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            long[][] oldValues = values;
+            keys = new long[capacity];
+            values = new long[capacity][];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != null) {
+                    int slot = index(oldKeys[i], capacity);
+                    while (values[slot] != null) {
+                        slot = (slot + 1) & (capacity - 1);
+                    }
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        private static int index(long key, int capacity) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & (capacity - 1);
+        }
+
+        private static long align(long bytes) {
+            return (bytes + 7) & ~7L;
+        }
+    }
+
+    // Growable long array used while collecting query results
+    private static final class LongBuffer {
+        private long[] items = new long[16];
+        private int size;
+
+        private void add(long value) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = value;
+        }
+
+        private void addAll(long[] values) {
+            if (size + values.length > items.length) {
+                items = Arrays.copyOf(items, Math.max(items.length * 2, size + values.length));
+            }
+            System.arraycopy(values, 0, items, size, values.length);
+            size += values.length;
+        }
+
+        private void clear() {
+            size = 0;
+        }
+
+        private long[] sortedDistinctWithout(Long excluded) {
+            long[] sorted = Arrays.copyOf(items, size);
+            Arrays.sort(sorted);
+            int n = 0;
+            for (long value : sorted) {
+                if ((n == 0 || sorted[n - 1] != value) && (excluded == null || value != excluded)) {
+                    sorted[n++] = value;
+                }
+            }
+            return Arrays.copyOf(sorted, n);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.cdac.cdacConnect.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cdac.cdacConnect.entity.ArchivedMeeting;
+import com.cdac.cdacConnect.entity.Meeting;
+import com.cdac.cdacConnect.entity.StudentMentorConnection;
+import com.cdac.cdacConnect.repository.ArchivedMeetingRepository;
+import com.cdac.cdacConnect.repository.MeetingRepository;
+import com.cdac.cdacConnect.repository.StudentMentorConnectionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+
+// Streams whole tables out as CSV or NDJSON in constant memory: rows come from a forward-only
+// repository stream, are written straight to the response and detached from the persistence context.
+@Service
+public class ExportService {
+
+    public static final String CSV = "csv";
+    public static final String NDJSON = "ndjson";
+
+    private static final int FLUSH_EVERY = 500;
+
+    private static final String[] MEETING_COLUMNS = { "meetingId", "studentId", "mentorId", "status", "selectedSkills",
+            "question", "requestDate", "scheduledStart", "scheduledEnd" };
+
+    private static final String[] CONNECTION_COLUMNS = { "connectionId", "studentId", "studentEmail", "mentorId",
+            "mentorEmail", "mentorName", "status", "selectedSkills", "connectionDate" };
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private ArchivedMeetingRepository archivedMeetingRepository;
+
+    @Autowired
+    private StudentMentorConnectionRepository connectionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    public static boolean isSupportedFormat(String format) {
+        return CSV.equals(format) || NDJSON.equals(format);
+    }
+
+    public static MediaType mediaType(String format) {
+        return NDJSON.equals(format) ? MediaType.APPLICATION_NDJSON : new MediaType("text", "csv", StandardCharsets.UTF_8);
+    }
+
+    // Write meetings (optionally one status, requested in [from, to)) to out, followed by matching archived
+    // meetings when includeArchived is set; returns the row count
+    public long exportMeetings(String format, String status, LocalDateTime from, LocalDateTime to,
+                               boolean includeArchived, OutputStream out) {
+        return readOnlyTransaction.execute(tx -> {
+            Supplier<Stream<?>> live = () -> meetingRepository.streamForExport(status, from, to);
+            Supplier<Stream<?>> archived = () -> includeArchived
+                    ? archivedMeetingRepository.streamForExport(status, from, to) : Stream.empty();
+            // flatMap opens the archive cursor only once the live one is drained, and closes each in turn
+            try (Stream<Object> rows = Stream.of(live, archived).flatMap(Supplier::get)) {
+                return write(format, MEETING_COLUMNS, rows, row -> row instanceof Meeting meeting
+                        ? meetingValues(meeting) : meetingValues(((ArchivedMeeting) row).toMeeting()), out);
+            }
+        });
+    }
+
+    // Write connections (optionally one status, created in [from, to)) to out; returns the row count
+    public long exportConnections(String format, String status, LocalDateTime from, LocalDateTime to, OutputStream out) {
+        return readOnlyTransaction.execute(tx -> {
+            try (Stream<StudentMentorConnection> rows = connectionRepository.streamForExport(status, from, to)) {
+                return write(format, CONNECTION_COLUMNS, rows, connection -> new Object[] { connection.getConnectionId(),
+                        connection.getStudentId(), connection.getStudentEmail(), connection.getMentorId(),
+                        connection.getMentorEmail(), connection.getMentorName(), connection.getStatus(),
+                        connection.getSelectedSkills(), connection.getConnectionDate() }, out);
+            }
+        });
+    }
+
+    private static Object[] meetingValues(Meeting meeting) {
+        return new Object[] { meeting.getMeetingId(), meeting.getStudentId(), meeting.getMentorId(), meeting.getStatus(),
+                meeting.getSelectedSkills(), meeting.getQuestion(), meeting.getRequestDate(), meeting.getScheduledStart(),
+                meeting.getScheduledEnd() };
+    }
+
+    private <T> long write(String format, String[] columns, Stream<T> rows, Function<T, Object[]> values,
+                           OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long[] count = { 0 };
+        try {
+            if (CSV.equals(format)) {
+                writeCsvLine(writer, columns);
+            }
+            rows.forEach(row -> {
+                try {
+                    Object[] line = values.apply(row);
+                    if (CSV.equals(format)) {
+                        writeCsvLine(writer, line);
+                    } else {
+                        writeJsonLine(writer, columns, line);
+                    }
+                    entityManager.detach(row);
+                    if (++count[0] % FLUSH_EVERY == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count[0];
+    }
+
+    private void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks; double embedded quotes
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private void writeJsonLine(Writer writer, String[] columns, Object[] values) throws IOException {
+        Map<String, Object> object = new LinkedHashMap<>();
+        for (int i = 0; i < columns.length; i++) {
+            object.put(columns[i], values[i]);
+        }
+        writer.write(objectMapper.writeValueAsString(object));
+        writer.write('\n');
+    }
+}
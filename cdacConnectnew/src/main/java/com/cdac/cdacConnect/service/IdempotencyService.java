@@ -0,0 +1,198 @@
+package com.cdac.cdacConnect.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+
+// Makes create endpoints safe to retry: the first request with an Idempotency-Key runs and its
+// successful response is stored; repeats within the TTL get that response back without running again.
+// The idempotency_keys table is shared by all nodes and arbitrates concurrent repeats (its primary key
+// admits one reservation); a bounded in-memory map of recent responses answers most repeats without a query.
+// Failed requests release their key so the client can retry them; a reservation left behind by a crashed
+// node is reclaimable once its lease runs out. Each key is bound to a fingerprint of the caller and request
+// body, and a repeat with a different fingerprint is rejected with 422.
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 128;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${idempotency.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${idempotency.max-cached-responses:10000}")
+    private int maxCachedResponses;
+
+    private Map<String, StoredResponse> recentResponses;
+
+    @PostConstruct
+    void init() {
+        recentResponses = Collections.synchronizedMap(new LinkedHashMap<String, StoredResponse>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > maxCachedResponses;
+            }
+        });
+    }
+
+    // Run action once per (scope, key) for the given caller and request body; without a key it simply runs
+    public ResponseEntity<String> execute(String scope, String key, String caller, Object request,
+            Supplier<ResponseEntity<String>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            return ResponseEntity.badRequest().body(HEADER + " must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String fingerprint = fingerprint(scope, caller, request);
+        String cacheKey = scope + ":" + key;
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusHours(ttlHours);
+        StoredResponse cached = recentResponses.get(cacheKey);
+        if (cached != null && cached.createdAt.isAfter(cutoff)) {
+            return cached.matches(fingerprint) ? cached.toResponse() : mismatch();
+        }
+
+        // Claim the key; an expired claim of the same key is cleared first
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE scope = ? AND idempotency_key = ? AND created_at < ?",
+                scope, key, Timestamp.valueOf(cutoff));
+        Timestamp leaseUntil = Timestamp.valueOf(now.plusSeconds(leaseSeconds));
+        try {
+            jdbcTemplate.update("INSERT INTO idempotency_keys (scope, idempotency_key, created_at, lease_until, fingerprint) "
+                    + "VALUES (?, ?, ?, ?, ?)", scope, key, Timestamp.valueOf(now), leaseUntil, fingerprint);
+        } catch (DuplicateKeyException e) {
+            // An unfinished reservation past its lease was abandoned: take it over (the conditional UPDATE lets one node win)
+            int reclaimed = jdbcTemplate.update("UPDATE idempotency_keys SET created_at = ?, lease_until = ?, fingerprint = ? "
+                    + "WHERE scope = ? AND idempotency_key = ? AND status_code IS NULL "
+                    + "AND (lease_until IS NULL OR lease_until < ?) AND (fingerprint IS NULL OR fingerprint = ?)",
+                    Timestamp.valueOf(now), leaseUntil, fingerprint, scope, key, Timestamp.valueOf(now), fingerprint);
+            if (reclaimed == 0) {
+                return replay(scope, key, cacheKey, fingerprint);
+            }
+        }
+
+        // The reservation is released on every way out except a stored success, including Errors
+        boolean completed = false;
+        try {
+            ResponseEntity<String> response = action.get();
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                return response;
+            }
+            StoredResponse stored = new StoredResponse(response.getStatusCode().value(), response.getBody(), now, fingerprint);
+            jdbcTemplate.update("UPDATE idempotency_keys SET status_code = ?, response_body = ? WHERE scope = ? AND idempotency_key = ?",
+                    stored.statusCode, stored.body, scope, key);
+            completed = true;
+            recentResponses.put(cacheKey, stored);
+            return response;
+        } finally {
+            if (!completed) {
+                release(scope, key);
+            }
+        }
+    }
+
+    // Drop keys older than the TTL
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:3600000}")
+    public int purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(ttlHours);
+        synchronized (recentResponses) {
+            recentResponses.values().removeIf(stored -> !stored.createdAt.isAfter(cutoff));
+        }
+        return jdbcTemplate.update("DELETE FROM idempotency_keys WHERE created_at < ?", Timestamp.valueOf(cutoff));
+    }
+
+    // Another request holds the key: return its response, 422 if it was for a different request,
+    // or 409 while it is still running
+    private ResponseEntity<String> replay(String scope, String key, String cacheKey, String fingerprint) {
+        List<StoredResponse> rows = jdbcTemplate.query(
+                "SELECT status_code, response_body, created_at, fingerprint FROM idempotency_keys WHERE scope = ? AND idempotency_key = ?",
+                (rs, rowNum) -> new StoredResponse((Integer) rs.getObject("status_code"), rs.getString("response_body"),
+                        rs.getTimestamp("created_at").toLocalDateTime(), rs.getString("fingerprint")),
+                scope, key);
+        if (!rows.isEmpty() && !rows.get(0).matches(fingerprint)) {
+            return mismatch();
+        }
+        if (rows.isEmpty() || rows.get(0).statusCode == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body("A request with this " + HEADER + " is still in progress");
+        }
+        recentResponses.put(cacheKey, rows.get(0));
+        return rows.get(0).toResponse();
+    }
+
+    private void release(String scope, String key) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE scope = ? AND idempotency_key = ?", scope, key);
+    }
+
+    private static ResponseEntity<String> mismatch() {
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body("This " + HEADER + " was already used for a different request");
+    }
+
+    // SHA-256 (hex) of the scope, caller and JSON form of the request body
+    private String fingerprint(String scope, String caller, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((scope + "\n" + caller + "\n").getBytes(StandardCharsets.UTF_8));
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Cannot fingerprint request", e);
+        }
+    }
+
+    private static final class StoredResponse {
+        private final Integer statusCode;
+        private final String body;
+        private final LocalDateTime createdAt;
+        private final String fingerprint;
+
+        private StoredResponse(Integer statusCode, String body, LocalDateTime createdAt, String fingerprint) {
+            this.statusCode = statusCode;
+            this.body = body;
+            this.createdAt = createdAt;
+            this.fingerprint = fingerprint;
+        }
+
+        // Rows written before fingerprints were recorded match any request
+        private boolean matches(String requestFingerprint) {
+            return fingerprint == null || fingerprint.equals(requestFingerprint);
+        }
+
+        private ResponseEntity<String> toResponse() {
+            return ResponseEntity.status(statusCode).body(body);
+        }
+    }
+}
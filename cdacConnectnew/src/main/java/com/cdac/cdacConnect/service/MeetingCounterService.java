@@ -0,0 +1,118 @@
+package com.cdac.cdacConnect.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.cdac.cdacConnect.entity.MeetingStatus;
+
+// Maintains the meeting_counters table: one row per (owner, status) holding how many meetings are in that status.
+// Callers invoke it inside the transaction that changes the meetings, so counts move atomically with them.
+@Service
+public class MeetingCounterService {
+
+    public static final String MENTOR = "MENTOR";
+    public static final String STUDENT = "STUDENT";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Record a newly created meeting
+    public void recordCreated(Long mentorId, Long studentId, String status) {
+        Deltas deltas = new Deltas();
+        deltas.add(mentorId, studentId, status, 1);
+        apply(deltas);
+    }
+
+    // Record a single meeting moving between statuses
+    public void recordTransition(Long mentorId, Long studentId, String fromStatus, String toStatus) {
+        Deltas deltas = new Deltas();
+        deltas.add(mentorId, studentId, fromStatus, -1);
+        deltas.add(mentorId, studentId, toStatus, 1);
+        apply(deltas);
+    }
+
+    // Record a meeting leaving the table
+    public void recordRemoved(Long mentorId, Long studentId, String status) {
+        Deltas deltas = new Deltas();
+        deltas.add(mentorId, studentId, status, -1);
+        apply(deltas);
+    }
+
+    // Apply accumulated deltas with a single multi-row upsert
+    public void apply(Deltas deltas) {
+        if (deltas.values.isEmpty()) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO meeting_counters (owner_type, owner_id, status, meeting_count) VALUES ");
+        List<Object> args = new ArrayList<>();
+        String separator = "";
+        for (Map.Entry<Key, Long> entry : deltas.values.entrySet()) {
+            sql.append(separator).append("(?, ?, ?, ?)");
+            separator = ", ";
+            args.add(entry.getKey().ownerType);
+            args.add(entry.getKey().ownerId);
+            args.add(entry.getKey().status);
+            args.add(entry.getValue());
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE meeting_count = meeting_count + VALUES(meeting_count)");
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    // Counts by status for one mentor or student; statuses with no meetings report 0
+    public Map<String, Long> getCounts(String ownerType, Long ownerId) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (MeetingStatus status : MeetingStatus.values()) {
+            counts.put(status.name(), 0L);
+        }
+        jdbcTemplate.query(
+                "SELECT status, meeting_count FROM meeting_counters WHERE owner_type = ? AND owner_id = ?",
+                rs -> {
+                    counts.put(rs.getString("status"), rs.getLong("meeting_count"));
+                },
+                ownerType, ownerId);
+        return counts;
+    }
+
+    // Net counter changes, merged per (owner, status) so a batch becomes one row each
+    public static class Deltas {
+        private final Map<Key, Long> values = new LinkedHashMap<>();
+
+        public void add(Long mentorId, Long studentId, String status, long delta) {
+            values.merge(new Key(MENTOR, mentorId, status), delta, Long::sum);
+            values.merge(new Key(STUDENT, studentId, status), delta, Long::sum);
+        }
+    }
+
+    private static final class Key {
+        private final String ownerType;
+        private final Long ownerId;
+        private final String status;
+
+        private Key(String ownerType, Long ownerId, String status) {
+            this.ownerType = ownerType;
+            this.ownerId = ownerId;
+            this.status = status;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return ownerType.equals(other.ownerType) && ownerId.equals(other.ownerId) && status.equals(other.status);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(ownerType, ownerId, status);
+        }
+    }
+}
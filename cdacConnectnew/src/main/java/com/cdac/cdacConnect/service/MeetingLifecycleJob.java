@@ -0,0 +1,156 @@
+package com.cdac.cdacConnect.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cdac.cdacConnect.entity.Meeting;
+import com.cdac.cdacConnect.entity.MeetingStatus;
+import com.cdac.cdacConnect.event.MeetingEvent;
+import com.cdac.cdacConnect.repository.MeetingRepository;
+
+// Nightly housekeeping for the meetings table:
+// 1. PENDING requests older than meetings.lifecycle.pending-expiry-days become EXPIRED
+// 2. closed meetings older than meetings.lifecycle.archive-after-days move to meetings_archive
+// Both steps work in chunks of meetings.lifecycle.chunk-size rows, one short transaction per chunk,
+// pausing meetings.lifecycle.pause-ms between chunks so the job never holds long locks.
+// Counters are lifetime totals, so archiving does not change them.
+@Component
+public class MeetingLifecycleJob {
+
+    private static final Logger log = LoggerFactory.getLogger(MeetingLifecycleJob.class);
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingCounterService meetingCounterService;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${meetings.lifecycle.enabled:true}")
+    private boolean enabled;
+
+    @Value("${meetings.lifecycle.pending-expiry-days:14}")
+    private int pendingExpiryDays;
+
+    @Value("${meetings.lifecycle.archive-after-days:90}")
+    private int archiveAfterDays;
+
+    @Value("${meetings.lifecycle.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${meetings.lifecycle.pause-ms:100}")
+    private long pauseMs;
+
+    @Scheduled(cron = "${meetings.lifecycle.cron:0 30 2 * * *}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        int expired = expireStalePending(LocalDateTime.now().minusDays(pendingExpiryDays));
+        int archived = archiveClosed(LocalDateTime.now().minusDays(archiveAfterDays));
+        log.debug("Meeting lifecycle run: expired={}, archived={}", expired, archived);
+    }
+
+    // Expire PENDING meetings requested before the cutoff; returns how many were expired
+    public int expireStalePending(LocalDateTime cutoff) {
+        int total = 0;
+        while (true) {
+            Integer expired = transactionTemplate.execute(status -> expireChunk(cutoff));
+            total += expired;
+            if (expired < chunkSize) {
+                return total;
+            }
+            pause();
+        }
+    }
+
+    private int expireChunk(LocalDateTime cutoff) {
+        List<Meeting> chunk = meetingRepository.findByStatusAndRequestDateBeforeOrderByMeetingIdAsc(
+                MeetingStatus.PENDING.name(), cutoff, PageRequest.of(0, chunkSize));
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = new ArrayList<>(chunk.size());
+        MeetingCounterService.Deltas deltas = new MeetingCounterService.Deltas();
+        for (Meeting meeting : chunk) {
+            ids.add(meeting.getMeetingId());
+            deltas.add(meeting.getMentorId(), meeting.getStudentId(), MeetingStatus.PENDING.name(), -1);
+            deltas.add(meeting.getMentorId(), meeting.getStudentId(), MeetingStatus.EXPIRED.name(), 1);
+        }
+        meetingRepository.transitionStatusBulk(ids, MeetingStatus.EXPIRED.sourceStatuses(), MeetingStatus.EXPIRED.name());
+        meetingCounterService.apply(deltas);
+        for (Meeting meeting : chunk) {
+            eventPublisher.publishEvent(new MeetingEvent(MeetingEvent.STATUS_CHANGED, meeting.getMeetingId(),
+                    meeting.getMentorId(), meeting.getStudentId(), MeetingStatus.EXPIRED.name()));
+        }
+        return chunk.size();
+    }
+
+    // Move closed meetings requested before the cutoff into meetings_archive; returns how many were moved
+    public int archiveClosed(LocalDateTime cutoff) {
+        int total = 0;
+        while (true) {
+            Integer archived = transactionTemplate.execute(status -> archiveChunk(cutoff));
+            total += archived;
+            if (archived < chunkSize) {
+                return total;
+            }
+            pause();
+        }
+    }
+
+    private int archiveChunk(LocalDateTime cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT meeting_id FROM meetings WHERE status IN (:statuses) AND request_date < :cutoff "
+                        + "ORDER BY meeting_id LIMIT :limit FOR UPDATE",
+                Map.of("statuses", MeetingStatus.closedStatuses(), "cutoff", cutoff, "limit", chunkSize),
+                Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Object> params = Map.of("ids", ids, "now", LocalDateTime.now());
+        jdbcTemplate.update(
+                "INSERT INTO meetings_archive (meeting_id, student_id, mentor_id, selected_skills, question, "
+                        + "status, request_date, is_scheduled, scheduled_start, scheduled_end, archived_at) "
+                        + "SELECT meeting_id, student_id, mentor_id, selected_skills, question, "
+                        + "status, request_date, is_scheduled, scheduled_start, scheduled_end, :now "
+                        + "FROM meetings WHERE meeting_id IN (:ids)",
+                params);
+        jdbcTemplate.update("DELETE FROM meetings WHERE meeting_id IN (:ids)", params);
+        return ids.size();
+    }
+
+    private void pause() {
+        if (pauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.cdac.cdacConnect.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.cdac.cdacConnect.entity.ArchivedMeeting;
+import com.cdac.cdacConnect.entity.Meeting;
+import com.cdac.cdacConnect.repository.ArchivedMeetingRepository;
+import com.cdac.cdacConnect.repository.MeetingRepository;
+
+// In-memory inverted index over meeting questions and selected skills (live and archived meetings),
+// ranked with BM25. Skill terms count double, as they are what a mentor usually searches by.
+// MeetingService keeps it in sync after each commit; rebuild() reloads it from the database
+// (at startup, or on demand after writes this node did not see).
+@Component
+public class MeetingSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int SKILL_WEIGHT = 2;
+    private static final int REBUILD_CHUNK = 1000;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "can", "do", "for", "how", "i", "in", "is", "it",
+            "me", "my", "of", "on", "or", "the", "to", "what", "when", "which", "why", "with", "you");
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private ArchivedMeetingRepository archivedMeetingRepository;
+
+    @Value("${meetings.search.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Postings current = new Postings();
+    // Non-null while a rebuild runs: every change applied meanwhile, replayed onto the loaded postings before the swap
+    private List<Consumer<Postings>> pendingChanges;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    // Ranked meeting ids matching any query term, optionally limited to one mentor
+    public List<Hit> search(String query, Long mentorId) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = new HashMap<>();
+            double averageLength = current.averageLength();
+            for (String term : terms) {
+                Map<Long, Integer> postings = current.terms.get(term);
+                if (postings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (current.docs.size() - postings.size() + 0.5) / (postings.size() + 0.5));
+                for (Map.Entry<Long, Integer> posting : postings.entrySet()) {
+                    Doc doc = current.docs.get(posting.getKey());
+                    if (mentorId != null && !mentorId.equals(doc.mentorId)) {
+                        continue;
+                    }
+                    int tf = posting.getValue();
+                    double norm = K1 * (1 - B + B * doc.length / averageLength);
+                    scores.merge(posting.getKey(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+            List<Hit> hits = new ArrayList<>(scores.size());
+            scores.forEach((meetingId, score) -> hits.add(new Hit(meetingId, score)));
+            hits.sort(Comparator.comparingDouble(Hit::getScore).reversed()
+                    .thenComparing(Comparator.comparingLong(Hit::getMeetingId).reversed()));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Index a new meeting once its transaction commits
+    public void addAfterCommit(Meeting meeting) {
+        Long meetingId = meeting.getMeetingId();
+        Long mentorId = meeting.getMentorId();
+        String question = meeting.getQuestion();
+        String skills = meeting.getSelectedSkills();
+        afterCommit(() -> add(meetingId, mentorId, question, skills));
+    }
+
+    // Drop a deleted meeting once its transaction commits
+    public void removeAfterCommit(Long meetingId) {
+        afterCommit(() -> apply(postings -> postings.remove(meetingId)));
+    }
+
+    // Reload the index from meetings and meetings_archive; searches keep using the old index until the swap
+    public int rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            Postings loaded = new Postings();
+            Long afterId = 0L;
+            Slice<Meeting> meetings;
+            do {
+                meetings = meetingRepository.findByMeetingIdGreaterThanOrderByMeetingIdAsc(afterId, PageRequest.of(0, REBUILD_CHUNK));
+                for (Meeting meeting : meetings) {
+                    loaded.put(meeting.getMeetingId(), meeting.getMentorId(), termCounts(meeting.getQuestion(), meeting.getSelectedSkills()));
+                    afterId = meeting.getMeetingId();
+                }
+            } while (meetings.hasNext());
+
+            afterId = 0L;
+            Slice<ArchivedMeeting> archived;
+            do {
+                archived = archivedMeetingRepository.findByMeetingIdGreaterThanOrderByMeetingIdAsc(afterId, PageRequest.of(0, REBUILD_CHUNK));
+                for (ArchivedMeeting meeting : archived) {
+                    loaded.put(meeting.getMeetingId(), meeting.getMentorId(), termCounts(meeting.getQuestion(), meeting.getSelectedSkills()));
+                    afterId = meeting.getMeetingId();
+                }
+            } while (archived.hasNext());
+
+            lock.writeLock().lock();
+            try {
+                // A meeting added or deleted while the scan ran may or may not be in it; puts and removes are
+                // idempotent, so replaying them in order gives the committed state (deletes included)
+                for (Consumer<Postings> change : pendingChanges) {
+                    change.accept(loaded);
+                }
+                current = loaded;
+                return current.docs.size();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return current.docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(Long meetingId, Long mentorId, String question, String skills) {
+        Map<String, Integer> termCounts = termCounts(question, skills);
+        apply(postings -> postings.put(meetingId, mentorId, termCounts));
+    }
+
+    private void apply(Consumer<Postings> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(current);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Map<String, Integer> termCounts(String question, String skills) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String term : tokenize(question)) {
+            counts.merge(term, 1, Integer::sum);
+        }
+        for (String term : tokenize(skills)) {
+            counts.merge(term, SKILL_WEIGHT, Integer::sum);
+        }
+        return counts;
+    }
+
+    // Lower-case words; '+', '#' and '.' stay inside a word so "c++", "c#" and "node.js" survive
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}+#.]+")) {
+            token = trimDots(token);
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+
+    private static String trimDots(String token) {
+        int start = 0;
+        int end = token.length();
+        while (start < end && token.charAt(start) == '.') {
+            start++;
+        }
+        while (end > start && token.charAt(end - 1) == '.') {
+            end--;
+        }
+        return token.substring(start, end);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    public static final class Hit {
+        private final Long meetingId;
+        private final double score;
+
+        private Hit(Long meetingId, double score) {
+            this.meetingId = meetingId;
+            this.score = score;
+        }
+
+        public Long getMeetingId() {
+            return meetingId;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+
+    private static final class Doc {
+        private final Long mentorId;
+        private final int length;
+        private final Set<String> terms;
+
+        private Doc(Long mentorId, int length, Set<String> terms) {
+            this.mentorId = mentorId;
+            this.length = length;
+            this.terms = terms;
+        }
+    }
+
+    // term -> (meetingId -> weighted term frequency), plus per-document data for scoring and removal
+    private static final class Postings {
+        private final Map<String, Map<Long, Integer>> terms = new HashMap<>();
+        private final Map<Long, Doc> docs = new HashMap<>();
+        private long totalLength;
+
+        private void put(Long meetingId, Long mentorId, Map<String, Integer> termCounts) {
+            remove(meetingId);
+            int length = 0;
+            for (Map.Entry<String, Integer> entry : termCounts.entrySet()) {
+                terms.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(meetingId, entry.getValue());
+                length += entry.getValue();
+            }
+            docs.put(meetingId, new Doc(mentorId, length, termCounts.keySet()));
+            totalLength += length;
+        }
+
+        private void remove(Long meetingId) {
+            Doc doc = docs.remove(meetingId);
+            if (doc == null) {
+                return;
+            }
+            for (String term : doc.terms) {
+                Map<Long, Integer> postings = terms.get(term);
+                postings.remove(meetingId);
+                if (postings.isEmpty()) {
+                    terms.remove(term);
+                }
+            }
+            totalLength -= doc.length;
+        }
+
+        private double averageLength() {
+            return docs.isEmpty() ? 1 : Math.max(1, (double) totalLength / docs.size());
+        }
+    }
+}
@@ -3,48 +3,85 @@ package com.cdac.cdacConnect.service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import com.cdac.cdacConnect.dto.BulkStatusResult;
+import com.cdac.cdacConnect.dto.CursorPage;
+import com.cdac.cdacConnect.dto.MeetingDetails;
+import com.cdac.cdacConnect.dto.MeetingParticipants;
+import com.cdac.cdacConnect.dto.MeetingSearchResult;
+import com.cdac.cdacConnect.dto.MeetingWithMentor;
+import com.cdac.cdacConnect.dto.MeetingWithStudent;
 import com.cdac.cdacConnect.entity.Meeting;
-import com.cdac.cdacConnect.entity.Mentor;
-import com.cdac.cdacConnect.entity.Student;
+import com.cdac.cdacConnect.entity.MeetingStatus;
+import com.cdac.cdacConnect.event.MeetingEvent;
+import com.cdac.cdacConnect.repository.ArchivedMeetingRepository;
 import com.cdac.cdacConnect.repository.MeetingRepository;
 import com.cdac.cdacConnect.repository.MentorRepository;
-import com.cdac.cdacConnect.repository.StudentRepository;
 
 @Service
 public class MeetingService {
 
+    private static final int MAX_BULK_UPDATE = 500;
+
     @Autowired
     private MeetingRepository meetingRepository;
     
     @Autowired
-    private StudentRepository studentRepository;
+    private MentorRepository mentorRepository;
     
     @Autowired
-    private MentorRepository mentorRepository;
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private MeetingCounterService meetingCounterService;
+    
+    @Autowired
+    private ArchivedMeetingRepository archivedMeetingRepository;
+    
+    @Autowired
+    private MentorScheduleIndex mentorScheduleIndex;
+    
+    @Autowired
+    private UserExistenceCache userExistenceCache;
+    
+    @Autowired
+    private MeetingSearchIndex meetingSearchIndex;
 
     // Create a new meeting request
+    @Transactional
     public ResponseEntity<String> createMeeting(Meeting meeting) {
         try {
             // Validate student exists
-            Optional<Student> student = studentRepository.findById(meeting.getStudentId());
-            if (!student.isPresent()) {
+            if (!userExistenceCache.studentExists(meeting.getStudentId())) {
                 return ResponseEntity.badRequest().body("Student not found");
             }
             
             // Validate mentor exists
-            Optional<Mentor> mentor = mentorRepository.findById(meeting.getMentorId());
-            if (!mentor.isPresent()) {
+            if (!userExistenceCache.mentorExists(meeting.getMentorId())) {
                 return ResponseEntity.badRequest().body("Mentor not found");
             }
             
+            // A time slot is optional, but must be complete and end after it starts
+            if ((meeting.getScheduledStart() == null) != (meeting.getScheduledEnd() == null)
+                    || (meeting.hasTimeSlot() && !meeting.getScheduledEnd().isAfter(meeting.getScheduledStart()))) {
+                return ResponseEntity.badRequest().body("Invalid time slot");
+            }
+            
             // Set status and request date if not already set
             if (meeting.getStatus() == null) {
                 meeting.setStatus("PENDING");
@@ -54,9 +91,14 @@ public class MeetingService {
             }
             
             Meeting savedMeeting = meetingRepository.save(meeting);
+            meetingCounterService.recordCreated(savedMeeting.getMentorId(), savedMeeting.getStudentId(), savedMeeting.getStatus());
+            meetingSearchIndex.addAfterCommit(savedMeeting);
+            eventPublisher.publishEvent(new MeetingEvent(MeetingEvent.CREATED, savedMeeting.getMeetingId(),
+                    savedMeeting.getMentorId(), savedMeeting.getStudentId(), savedMeeting.getStatus()));
             return ResponseEntity.ok("Meeting request created successfully with ID: " + savedMeeting.getMeetingId());
             
         } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return ResponseEntity.badRequest().body("Failed to create meeting: " + e.getMessage());
         }
     }
@@ -66,6 +108,13 @@ public class MeetingService {
         return meetingRepository.findAll();
     }
 
+    // Get one keyset page of meetings
+    public CursorPage<Meeting> getMeetingsPage(Long afterId, int limit) {
+        return CursorPage.from(
+                meetingRepository.findByMeetingIdGreaterThanOrderByMeetingIdAsc(afterId, CursorPage.firstPage(limit)),
+                Meeting::getMeetingId);
+    }
+
     // Get meeting by ID
     public Optional<Meeting> getMeetingById(Long id) {
         return meetingRepository.findById(id);
@@ -76,11 +125,67 @@ public class MeetingService {
         return meetingRepository.findByStudentId(studentId);
     }
 
+    // Get meetings by student ID, optionally followed by archived ones
+    public List<Meeting> getMeetingsByStudentId(Long studentId, boolean includeArchived) {
+        List<Meeting> meetings = getMeetingsByStudentId(studentId);
+        if (!includeArchived) {
+            return meetings;
+        }
+        List<Meeting> all = new ArrayList<>(meetings);
+        archivedMeetingRepository.findByStudentIdOrderByRequestDateAsc(studentId)
+                .forEach(archived -> all.add(archived.toMeeting()));
+        return all;
+    }
+
+    // Full-text search over questions and skills of live and archived meetings, best matches first
+    public MeetingSearchResult searchMeetings(String query, Long mentorId, int offset, int limit) {
+        List<MeetingSearchIndex.Hit> hits = meetingSearchIndex.search(query, mentorId);
+        MeetingSearchResult result = new MeetingSearchResult(hits.size(), offset, limit);
+        // offset + limit in long: an offset near Integer.MAX_VALUE must give an empty page, not overflow
+        int end = (int) Math.min((long) offset + limit, hits.size());
+        List<MeetingSearchIndex.Hit> page = hits.subList(Math.min(offset, end), end);
+        if (page.isEmpty()) {
+            return result;
+        }
+        
+        List<Long> ids = page.stream().map(MeetingSearchIndex.Hit::getMeetingId).toList();
+        Map<Long, Meeting> meetings = new HashMap<>();
+        meetingRepository.findAllById(ids).forEach(meeting -> meetings.put(meeting.getMeetingId(), meeting));
+        if (meetings.size() < ids.size()) {
+            archivedMeetingRepository.findAllById(ids)
+                    .forEach(archived -> meetings.putIfAbsent(archived.getMeetingId(), archived.toMeeting()));
+        }
+        for (MeetingSearchIndex.Hit hit : page) {
+            Meeting meeting = meetings.get(hit.getMeetingId());
+            if (meeting != null) {
+                result.add(meeting, hit.getScore());
+            }
+        }
+        return result;
+    }
+
+    // Reload the search index from the database
+    public int rebuildSearchIndex() {
+        return meetingSearchIndex.rebuild();
+    }
+
     // Get meetings by mentor ID
     public List<Meeting> getMeetingsByMentorId(Long mentorId) {
         return meetingRepository.findByMentorId(mentorId);
     }
 
+    // Get meetings by mentor ID, optionally followed by archived ones
+    public List<Meeting> getMeetingsByMentorId(Long mentorId, boolean includeArchived) {
+        List<Meeting> meetings = getMeetingsByMentorId(mentorId);
+        if (!includeArchived) {
+            return meetings;
+        }
+        List<Meeting> all = new ArrayList<>(meetings);
+        archivedMeetingRepository.findByMentorIdOrderByRequestDateAsc(mentorId)
+                .forEach(archived -> all.add(archived.toMeeting()));
+        return all;
+    }
+
     // Get pending meetings for a mentor
     public List<Meeting> getPendingMeetingsForMentor(Long mentorId) {
         return meetingRepository.findByMentorIdAndStatusOrderByRequestDateAsc(mentorId, "PENDING");
@@ -91,44 +196,230 @@ public class MeetingService {
         return meetingRepository.findByStudentIdAndStatusInOrderByRequestDateAsc(studentId, List.of("PENDING", "APPROVED"));
     }
 
-    // Update meeting status (for mentor response)
-    public ResponseEntity<String> updateMeetingStatus(Long meetingId, String status, String mentorResponse) {
-        System.out.println("[DEBUG] updateMeetingStatus called with meetingId=" + meetingId + ", status=" + status + ", mentorResponse=" + mentorResponse);
-        Optional<Meeting> meeting = meetingRepository.findById(meetingId);
-        if (meeting.isPresent()) {
-            Meeting existingMeeting = meeting.get();
-            System.out.println("[DEBUG] Found meeting: " + existingMeeting);
-            existingMeeting.setStatus(status);
-            meetingRepository.save(existingMeeting);
-            System.out.println("[DEBUG] Meeting status updated successfully");
+    // Update meeting status (for mentor response); a non-null mentorId restricts the update to that mentor's meetings.
+    // READ_COMMITTED: under MySQL's REPEATABLE READ the overlap check would read the snapshot taken by the first
+    // select, before the mentor lock was granted, and miss an approval another node committed while we waited.
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public ResponseEntity<String> updateMeetingStatus(Long meetingId, String status, Long mentorId) {
+        MeetingStatus target = MeetingStatus.fromName(status);
+        if (target == null) {
+            return ResponseEntity.badRequest().body("Invalid status: " + status);
+        }
+        if (!target.isClientRequestable()) {
+            return ResponseEntity.badRequest().body("Status " + target.name() + " cannot be requested");
+        }
+        
+        // Approving a meeting with a time slot must not double-book the mentor
+        Meeting slotMeeting = null;
+        if (target == MeetingStatus.APPROVED) {
+            Optional<Meeting> meeting = meetingRepository.findById(meetingId);
+            if (meeting.isPresent() && meeting.get().hasTimeSlot()
+                    && (mentorId == null || meeting.get().getMentorId().equals(mentorId))) {
+                slotMeeting = meeting.get();
+                lockMentorSchedule(slotMeeting.getMentorId());
+                if (!isSlotFree(slotMeeting)) {
+                    return ResponseEntity.status(HttpStatus.CONFLICT)
+                            .body("Time slot overlaps another approved meeting");
+                }
+            }
+        }
+        
+        if (transition(meetingId, target, null, mentorId)) {
+            if (slotMeeting != null) {
+                mentorScheduleIndex.addAfterCommit(slotMeeting.getMentorId(), meetingId,
+                        slotMeeting.getScheduledStart(), slotMeeting.getScheduledEnd());
+            }
             return ResponseEntity.ok("Meeting status updated successfully");
         }
-        System.out.println("[DEBUG] Meeting not found: " + meetingId);
-        return ResponseEntity.badRequest().body("Meeting not found");
+        
+        // Nothing changed: work out why (only on the failure path)
+        Optional<Meeting> meeting = meetingRepository.findById(meetingId);
+        if (!meeting.isPresent()) {
+            return ResponseEntity.badRequest().body("Meeting not found");
+        }
+        if (mentorId != null && !meeting.get().getMentorId().equals(mentorId)) {
+            return ResponseEntity.badRequest().body("You can only update your own meetings");
+        }
+        return transitionConflict(meeting.get(), target);
     }
 
     // Cancel meeting
+    @Transactional
     public ResponseEntity<String> cancelMeeting(Long meetingId, Long userId, String userType) {
+        Long studentId = "student".equals(userType) ? userId : null;
+        Long mentorId = "mentor".equals(userType) ? userId : null;
+        
+        if (transition(meetingId, MeetingStatus.CANCELLED, studentId, mentorId)) {
+            return ResponseEntity.ok("Meeting cancelled successfully");
+        }
+        
         Optional<Meeting> meeting = meetingRepository.findById(meetingId);
+        if (!meeting.isPresent()) {
+            return ResponseEntity.notFound().build();
+        }
         
-        if (meeting.isPresent()) {
-            Meeting existingMeeting = meeting.get();
-            
-            // Check if user has permission to cancel
-            if (userType.equals("student") && !existingMeeting.getStudentId().equals(userId)) {
-                return ResponseEntity.badRequest().body("You can only cancel your own meetings");
+        // Check if user has permission to cancel
+        if (studentId != null && !meeting.get().getStudentId().equals(studentId)) {
+            return ResponseEntity.badRequest().body("You can only cancel your own meetings");
+        }
+        
+        if (mentorId != null && !meeting.get().getMentorId().equals(mentorId)) {
+            return ResponseEntity.badRequest().body("You can only cancel your own meetings");
+        }
+        
+        return transitionConflict(meeting.get(), MeetingStatus.CANCELLED);
+    }
+
+    // Apply one status change to many of a mentor's meetings in a single transaction and UPDATE statement
+    // (READ_COMMITTED for the same reason as updateMeetingStatus)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public ResponseEntity<?> bulkUpdateMeetingStatus(List<Long> meetingIds, String status, Long mentorId) {
+        MeetingStatus target = MeetingStatus.fromName(status);
+        if (target == null) {
+            return ResponseEntity.badRequest().body("Invalid status: " + status);
+        }
+        if (!target.isClientRequestable()) {
+            return ResponseEntity.badRequest().body("Status " + target.name() + " cannot be requested");
+        }
+        if (mentorId == null) {
+            return ResponseEntity.badRequest().body("mentorId is required");
+        }
+        if (meetingIds == null || meetingIds.isEmpty()) {
+            return ResponseEntity.badRequest().body("No meeting ids given");
+        }
+        if (meetingIds.size() > MAX_BULK_UPDATE) {
+            return ResponseEntity.badRequest().body("At most " + MAX_BULK_UPDATE + " meetings can be updated at once");
+        }
+        
+        // Lock order on every path is mentor, then meetings, so a bulk and a single approval cannot deadlock
+        if (target == MeetingStatus.APPROVED) {
+            lockMentorSchedule(mentorId);
+        }
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(meetingIds));
+        Map<Long, Meeting> meetings = new HashMap<>();
+        for (Meeting meeting : meetingRepository.findByMeetingIdIn(distinctIds)) {
+            meetings.put(meeting.getMeetingId(), meeting);
+        }
+        
+        BulkStatusResult result = new BulkStatusResult(target.name());
+        List<Long> eligible = new ArrayList<>();
+        // Slots approved earlier in this batch, so the batch cannot double-book within itself
+        TreeMap<LocalDateTime, LocalDateTime> batchSlots = new TreeMap<>();
+        for (Long id : distinctIds) {
+            Meeting meeting = meetings.get(id);
+            if (meeting == null) {
+                result.add(id, BulkStatusResult.NOT_FOUND, null);
+            } else if (!meeting.getMentorId().equals(mentorId)) {
+                result.add(id, BulkStatusResult.NOT_OWNER, null);
+            } else if (!target.canTransitionFrom(meeting.getStatus())) {
+                result.add(id, BulkStatusResult.CONFLICT, meeting.getStatus());
+            } else if (target == MeetingStatus.APPROVED && meeting.hasTimeSlot()
+                    && !reserveBatchSlot(meeting, batchSlots)) {
+                result.add(id, BulkStatusResult.SLOT_CONFLICT, meeting.getStatus());
+            } else {
+                eligible.add(id);
+                result.add(id, BulkStatusResult.UPDATED, target.name());
             }
-            
-            if (userType.equals("mentor") && !existingMeeting.getMentorId().equals(userId)) {
-                return ResponseEntity.badRequest().body("You can only cancel your own meetings");
+        }
+        
+        if (!eligible.isEmpty()) {
+            // Rows are locked above, so every eligible meeting is updated
+            meetingRepository.transitionStatusBulk(eligible, target.sourceStatuses(), target.name());
+            MeetingCounterService.Deltas deltas = new MeetingCounterService.Deltas();
+            for (Long id : eligible) {
+                Meeting meeting = meetings.get(id);
+                trackSlot(meeting, meeting.getStatus(), target);
+                deltas.add(mentorId, meeting.getStudentId(), meeting.getStatus(), -1);
+                deltas.add(mentorId, meeting.getStudentId(), target.name(), 1);
+                eventPublisher.publishEvent(new MeetingEvent(MeetingEvent.STATUS_CHANGED, id, mentorId,
+                        meeting.getStudentId(), target.name()));
+            }
+            meetingCounterService.apply(deltas);
+        }
+        
+        return ResponseEntity.ok(result);
+    }
+
+    // Try each allowed source status with a conditional UPDATE so the previous status is known for the counters
+    private boolean transition(Long meetingId, MeetingStatus target, Long studentId, Long mentorId) {
+        for (String fromStatus : target.sourceStatuses()) {
+            int updated = meetingRepository.transitionStatus(meetingId, List.of(fromStatus), target.name(), studentId, mentorId);
+            if (updated == 1) {
+                MeetingParticipants participants = meetingRepository.findParticipantsByMeetingId(meetingId).get();
+                if (MeetingStatus.APPROVED.name().equals(fromStatus)) {
+                    mentorScheduleIndex.removeAfterCommit(participants.getMentorId(), meetingId);
+                }
+                meetingCounterService.recordTransition(participants.getMentorId(), participants.getStudentId(),
+                        fromStatus, target.name());
+                eventPublisher.publishEvent(new MeetingEvent(MeetingEvent.STATUS_CHANGED, meetingId,
+                        participants.getMentorId(), participants.getStudentId(), target.name()));
+                return true;
             }
-            
-            existingMeeting.setStatus("CANCELLED");
-            meetingRepository.save(existingMeeting);
-            return ResponseEntity.ok("Meeting cancelled successfully");
-        } else {
-            return ResponseEntity.notFound().build();
         }
+        return false;
+    }
+
+    // Serialize slot approvals for one mentor (across nodes) by locking the mentor row until commit
+    private void lockMentorSchedule(Long mentorId) {
+        mentorRepository.findWithLockByMentorId(mentorId);
+    }
+
+    // Is the meeting's slot free? Call with the mentor's schedule locked.
+    // A clash in the in-memory index is rejected without a query. The index can miss approvals committed on
+    // other nodes, so a free answer is confirmed in the database under the lock, which is what stops two nodes
+    // double-booking. A clash can also be stale (another node freed the slot): the mentor's entry is dropped
+    // so a retry is checked against a fresh load.
+    private boolean isSlotFree(Meeting meeting) {
+        if (mentorScheduleIndex.overlaps(meeting.getMentorId(), meeting.getScheduledStart(),
+                meeting.getScheduledEnd(), meeting.getMeetingId())) {
+            mentorScheduleIndex.invalidate(meeting.getMentorId());
+            return false;
+        }
+        List<LocalDateTime> latestEnd = meetingRepository.findLatestApprovedEndBefore(meeting.getMentorId(),
+                meeting.getMeetingId(), meeting.getScheduledEnd(), PageRequest.of(0, 1));
+        if (!latestEnd.isEmpty() && latestEnd.get(0).isAfter(meeting.getScheduledStart())) {
+            // The index missed an approval: reload it
+            mentorScheduleIndex.invalidate(meeting.getMentorId());
+            return false;
+        }
+        return true;
+    }
+
+    // Check a bulk approval against approved slots and those already accepted in the same batch
+    private boolean reserveBatchSlot(Meeting meeting, TreeMap<LocalDateTime, LocalDateTime> batchSlots) {
+        Map.Entry<LocalDateTime, LocalDateTime> before = batchSlots.lowerEntry(meeting.getScheduledEnd());
+        if (before != null && before.getValue().isAfter(meeting.getScheduledStart())) {
+            return false;
+        }
+        if (!isSlotFree(meeting)) {
+            return false;
+        }
+        batchSlots.put(meeting.getScheduledStart(), meeting.getScheduledEnd());
+        return true;
+    }
+
+    // Keep the schedule index in step with a bulk transition
+    private void trackSlot(Meeting meeting, String fromStatus, MeetingStatus target) {
+        if (!meeting.hasTimeSlot()) {
+            return;
+        }
+        if (target == MeetingStatus.APPROVED) {
+            mentorScheduleIndex.addAfterCommit(meeting.getMentorId(), meeting.getMeetingId(),
+                    meeting.getScheduledStart(), meeting.getScheduledEnd());
+        } else if (MeetingStatus.APPROVED.name().equals(fromStatus)) {
+            mentorScheduleIndex.removeAfterCommit(meeting.getMentorId(), meeting.getMeetingId());
+        }
+    }
+
+    // Is a mentor free for [start, end)? Answered from the in-memory schedule index
+    public boolean isMentorAvailable(Long mentorId, LocalDateTime start, LocalDateTime end) {
+        return !mentorScheduleIndex.overlaps(mentorId, start, end, null);
+    }
+
+    // 409 for a transition the state machine does not allow, or one lost to a concurrent update
+    private ResponseEntity<String> transitionConflict(Meeting meeting, MeetingStatus target) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body("Meeting is " + meeting.getStatus() + " and cannot be changed to " + target.name());
     }
 
     // Get meetings by status
@@ -136,47 +427,59 @@ public class MeetingService {
         return meetingRepository.findByStatus(status);
     }
 
+    // Get one keyset page of meetings with a status
+    public CursorPage<Meeting> getMeetingsByStatusPage(String status, Long afterId, int limit) {
+        return CursorPage.from(
+                meetingRepository.findByStatusAndMeetingIdGreaterThanOrderByMeetingIdAsc(status, afterId, CursorPage.firstPage(limit)),
+                Meeting::getMeetingId);
+    }
+
     // Delete meeting (admin only)
+    @Transactional
     public ResponseEntity<String> deleteMeeting(Long meetingId) {
         Optional<Meeting> meeting = meetingRepository.findById(meetingId);
         
         if (meeting.isPresent()) {
             meetingRepository.delete(meeting.get());
+            if (MeetingStatus.APPROVED.name().equals(meeting.get().getStatus())) {
+                mentorScheduleIndex.removeAfterCommit(meeting.get().getMentorId(), meetingId);
+            }
+            meetingSearchIndex.removeAfterCommit(meetingId);
+            meetingCounterService.recordRemoved(meeting.get().getMentorId(), meeting.get().getStudentId(),
+                    meeting.get().getStatus());
             return ResponseEntity.ok("Meeting deleted successfully");
         } else {
             return ResponseEntity.notFound().build();
         }
     }
 
+    // Get meeting counts by status for a mentor, read from the counters table
+    public Map<String, Long> getMentorMeetingCounts(Long mentorId) {
+        return meetingCounterService.getCounts(MeetingCounterService.MENTOR, mentorId);
+    }
+
+    // Get meeting counts by status for a student, read from the counters table
+    public Map<String, Long> getStudentMeetingCounts(Long studentId) {
+        return meetingCounterService.getCounts(MeetingCounterService.STUDENT, studentId);
+    }
+
     // Get meeting details with student and mentor information
     public ResponseEntity<?> getMeetingWithDetails(Long meetingId) {
         try {
-            Optional<Meeting> meeting = meetingRepository.findById(meetingId);
-            if (!meeting.isPresent()) {
+            Optional<MeetingDetails> details = meetingRepository.findDetailsById(meetingId);
+            if (!details.isPresent()) {
                 return ResponseEntity.notFound().build();
             }
             
-            Meeting meetingData = meeting.get();
-            
-            // Get student details
-            Optional<Student> student = studentRepository.findById(meetingData.getStudentId());
-            if (!student.isPresent()) {
+            if (details.get().getStudent() == null) {
                 return ResponseEntity.badRequest().body("Student not found");
             }
             
-            // Get mentor details
-            Optional<Mentor> mentor = mentorRepository.findById(meetingData.getMentorId());
-            if (!mentor.isPresent()) {
+            if (details.get().getMentor() == null) {
                 return ResponseEntity.badRequest().body("Mentor not found");
             }
             
-            // Create response object with all details
-            Map<String, Object> response = new HashMap<>();
-            response.put("meeting", meetingData);
-            response.put("student", student.get());
-            response.put("mentor", mentor.get());
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(details.get());
             
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Error fetching meeting details: " + e.getMessage());
@@ -186,23 +489,11 @@ public class MeetingService {
     // Get meetings for mentor with student details
     public ResponseEntity<?> getMentorMeetingsWithDetails(Long mentorId) {
         try {
-            List<Meeting> meetings = meetingRepository.findByMentorId(mentorId);
-            if (meetings.isEmpty()) {
+            List<MeetingWithStudent> meetingsWithDetails = meetingRepository.findWithStudentByMentorId(mentorId);
+            if (meetingsWithDetails.isEmpty()) {
                 return ResponseEntity.noContent().build();
             }
             
-            List<Map<String, Object>> meetingsWithDetails = new ArrayList<>();
-            
-            for (Meeting meeting : meetings) {
-                Optional<Student> student = studentRepository.findById(meeting.getStudentId());
-                if (student.isPresent()) {
-                    Map<String, Object> meetingDetail = new HashMap<>();
-                    meetingDetail.put("meeting", meeting);
-                    meetingDetail.put("student", student.get());
-                    meetingsWithDetails.add(meetingDetail);
-                }
-            }
-            
             return ResponseEntity.ok(meetingsWithDetails);
             
         } catch (Exception e) {
@@ -213,23 +504,11 @@ public class MeetingService {
     // Get meetings for student with mentor details
     public ResponseEntity<?> getStudentMeetingsWithDetails(Long studentId) {
         try {
-            List<Meeting> meetings = meetingRepository.findByStudentId(studentId);
-            if (meetings.isEmpty()) {
+            List<MeetingWithMentor> meetingsWithDetails = meetingRepository.findWithMentorByStudentId(studentId);
+            if (meetingsWithDetails.isEmpty()) {
                 return ResponseEntity.noContent().build();
             }
             
-            List<Map<String, Object>> meetingsWithDetails = new ArrayList<>();
-            
-            for (Meeting meeting : meetings) {
-                Optional<Mentor> mentor = mentorRepository.findById(meeting.getMentorId());
-                if (mentor.isPresent()) {
-                    Map<String, Object> meetingDetail = new HashMap<>();
-                    meetingDetail.put("meeting", meeting);
-                    meetingDetail.put("mentor", mentor.get());
-                    meetingsWithDetails.add(meetingDetail);
-                }
-            }
-            
             return ResponseEntity.ok(meetingsWithDetails);
             
         } catch (Exception e) {
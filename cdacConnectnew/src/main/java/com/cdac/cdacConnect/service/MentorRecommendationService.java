@@ -0,0 +1,195 @@
+package com.cdac.cdacConnect.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.IntStream;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.cdac.cdacConnect.dto.MentorRecommendation;
+
+// Ranks mentors for a student by:
+// - skill overlap with the requested skills (MentorSkillIndex, loaded from mentor_skill)
+// - current load: PENDING meetings from the meeting_counters table
+// - the student's connections: mentors the student is already approved with are left out,
+//   mentors of the student's peers get a boost (ConnectionGraphIndex)
+// Mentor names and loads come from a snapshot refreshed every mentors.recommendations.snapshot-ttl-seconds;
+// every mentor is scored in parallel and only the best "limit" are kept, in bounded min-heaps.
+@Service
+public class MentorRecommendationService {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    private static final double SKILL_WEIGHT = 0.6;
+    private static final double LOAD_WEIGHT = 0.25;
+    private static final double PEER_WEIGHT = 0.15;
+
+    // Best first: higher score, then lower snapshot index (older mentor id)
+    private static final Comparator<Candidate> BEST_FIRST = Comparator.comparingDouble((Candidate c) -> c.score).reversed()
+            .thenComparingInt(c -> c.index);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MentorSkillIndex mentorSkillIndex;
+
+    @Autowired
+    private ConnectionGraphIndex connectionGraphIndex;
+
+    @Value("${mentors.recommendations.snapshot-ttl-seconds:60}")
+    private long snapshotTtlSeconds;
+
+    private volatile Snapshot snapshot;
+
+    // Top mentors for the student; with skills given, only mentors having at least one of them are returned
+    public List<MentorRecommendation> recommend(Long studentId, List<String> skills, int limit) {
+        Snapshot mentors = snapshot();
+        List<RoaringBitmap> requested = mentorSkillIndex.mentorsWithEach(skills);
+        long[] connected = connectionGraphIndex.mentorsOf(studentId);
+        long[] peerMentors = connectionGraphIndex.peerMentorsOf(studentId);
+
+        TopK best = IntStream.range(0, mentors.ids.length).parallel().collect(
+                () -> new TopK(limit),
+                (top, i) -> {
+                    long mentorId = mentors.ids[i];
+                    if (Arrays.binarySearch(connected, mentorId) >= 0) {
+                        return;
+                    }
+                    int matched = 0;
+                    for (RoaringBitmap withSkill : requested) {
+                        if (withSkill.contains((int) mentorId)) {
+                            matched++;
+                        }
+                    }
+                    if (!requested.isEmpty() && matched == 0) {
+                        return;
+                    }
+                    boolean peer = Arrays.binarySearch(peerMentors, mentorId) >= 0;
+                    double skillScore = requested.isEmpty() ? 0 : (double) matched / requested.size();
+                    double loadScore = 1.0 / (1 + mentors.pending[i]);
+                    double score = SKILL_WEIGHT * skillScore + LOAD_WEIGHT * loadScore + (peer ? PEER_WEIGHT : 0);
+                    top.offer(i, score, matched, peer);
+                },
+                TopK::merge);
+
+        List<MentorRecommendation> recommendations = new ArrayList<>();
+        for (Candidate candidate : best.sorted()) {
+            recommendations.add(new MentorRecommendation(mentors.ids[candidate.index], mentors.names[candidate.index],
+                    candidate.score, candidate.matched, mentors.pending[candidate.index], candidate.peer));
+        }
+        return recommendations;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null && System.nanoTime() - current.loadedAt < snapshotTtlSeconds * 1_000_000_000L) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current == null || System.nanoTime() - current.loadedAt >= snapshotTtlSeconds * 1_000_000_000L) {
+                current = load();
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    private Snapshot load() {
+        Map<Long, Long> pendingByMentor = new HashMap<>();
+        jdbcTemplate.query("SELECT owner_id, meeting_count FROM meeting_counters WHERE owner_type = ? AND status = 'PENDING'",
+                rs -> {
+                    pendingByMentor.put(rs.getLong(1), rs.getLong(2));
+                }, MeetingCounterService.MENTOR);
+
+        List<Long> ids = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        jdbcTemplate.query("SELECT mentor_id, mentor_name FROM mentor ORDER BY mentor_id", rs -> {
+            ids.add(rs.getLong(1));
+            names.add(rs.getString(2));
+        });
+
+        Snapshot loaded = new Snapshot(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            loaded.ids[i] = ids.get(i);
+            loaded.names[i] = names.get(i);
+            loaded.pending[i] = Math.max(0, pendingByMentor.getOrDefault(ids.get(i), 0L));
+        }
+        return loaded;
+    }
+
+    private static final class Snapshot {
+        private final long loadedAt = System.nanoTime();
+        private final long[] ids;
+        private final String[] names;
+        private final long[] pending;
+
+        private Snapshot(int size) {
+            ids = new long[size];
+            names = new String[size];
+            pending = new long[size];
+        }
+    }
+
+    private static final class Candidate {
+        private final int index;
+        private final double score;
+        private final int matched;
+        private final boolean peer;
+
+        private Candidate(int index, double score, int matched, boolean peer) {
+            this.index = index;
+            this.score = score;
+            this.matched = matched;
+            this.peer = peer;
+        }
+    }
+
+    // Keeps the k best candidates seen; the heap's head is the worst of them
+    private static final class TopK {
+        private final int k;
+        private final PriorityQueue<Candidate> heap;
+
+        private TopK(int k) {
+            this.k = k;
+            this.heap = new PriorityQueue<>(k + 1, BEST_FIRST.reversed());
+        }
+
+        private void offer(int index, double score, int matched, boolean peer) {
+            if (heap.size() == k && score < heap.peek().score) {
+                return; // cheap reject before allocating: most mentors never enter the heap
+            }
+            Candidate candidate = new Candidate(index, score, matched, peer);
+            if (heap.size() < k) {
+                heap.add(candidate);
+            } else if (BEST_FIRST.compare(candidate, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+
+        private void merge(TopK other) {
+            for (Candidate candidate : other.heap) {
+                offer(candidate.index, candidate.score, candidate.matched, candidate.peer);
+            }
+        }
+
+        private List<Candidate> sorted() {
+            List<Candidate> candidates = new ArrayList<>(heap);
+            Collections.sort(candidates, BEST_FIRST);
+            return candidates;
+        }
+    }
+}
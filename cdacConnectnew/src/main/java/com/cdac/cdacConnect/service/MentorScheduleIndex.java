@@ -0,0 +1,119 @@
+package com.cdac.cdacConnect.service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.cdac.cdacConnect.entity.Meeting;
+import com.cdac.cdacConnect.repository.MeetingRepository;
+
+// Per-mentor index of APPROVED time slots, ordered by start, loaded lazily from the database.
+// Approved slots of one mentor never overlap, so the only candidate for a clash with [start, end)
+// is the slot with the greatest start before end: an O(log n) lookup.
+// The index is a fast path only; MeetingService re-checks the database under a mentor row lock,
+// which is what stops two nodes approving overlapping slots.
+@Component
+public class MentorScheduleIndex {
+
+    private final Map<Long, MentorSlots> slotsByMentor = new ConcurrentHashMap<>();
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    // Does [start, end) overlap an approved slot of this mentor (other than excludeMeetingId)?
+    public boolean overlaps(Long mentorId, LocalDateTime start, LocalDateTime end, Long excludeMeetingId) {
+        MentorSlots slots = slotsByMentor.computeIfAbsent(mentorId, this::load);
+        synchronized (slots) {
+            Map.Entry<LocalDateTime, Slot> candidate = slots.byStart.lowerEntry(end);
+            while (candidate != null && candidate.getValue().meetingId.equals(excludeMeetingId)) {
+                candidate = slots.byStart.lowerEntry(candidate.getKey());
+            }
+            return candidate != null && candidate.getValue().end.isAfter(start);
+        }
+    }
+
+    // Record a newly approved slot once the approving transaction commits
+    public void addAfterCommit(Long mentorId, Long meetingId, LocalDateTime start, LocalDateTime end) {
+        afterCommit(() -> {
+            MentorSlots slots = slotsByMentor.get(mentorId);
+            if (slots != null) {
+                synchronized (slots) {
+                    slots.put(meetingId, start, end);
+                }
+            }
+        });
+    }
+
+    // Forget a slot whose meeting left APPROVED once that transaction commits
+    public void removeAfterCommit(Long mentorId, Long meetingId) {
+        afterCommit(() -> {
+            MentorSlots slots = slotsByMentor.get(mentorId);
+            if (slots != null) {
+                synchronized (slots) {
+                    slots.remove(meetingId);
+                }
+            }
+        });
+    }
+
+    // Drop a mentor's cached slots; the next lookup reloads them
+    public void invalidate(Long mentorId) {
+        slotsByMentor.remove(mentorId);
+    }
+
+    private MentorSlots load(Long mentorId) {
+        MentorSlots slots = new MentorSlots();
+        for (Meeting meeting : meetingRepository.findApprovedSlotsByMentorId(mentorId)) {
+            slots.put(meeting.getMeetingId(), meeting.getScheduledStart(), meeting.getScheduledEnd());
+        }
+        return slots;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class MentorSlots {
+        private final TreeMap<LocalDateTime, Slot> byStart = new TreeMap<>();
+        private final Map<Long, LocalDateTime> startByMeeting = new HashMap<>();
+
+        private void put(Long meetingId, LocalDateTime start, LocalDateTime end) {
+            remove(meetingId);
+            byStart.put(start, new Slot(meetingId, end));
+            startByMeeting.put(meetingId, start);
+        }
+
+        private void remove(Long meetingId) {
+            LocalDateTime start = startByMeeting.remove(meetingId);
+            if (start != null) {
+                byStart.remove(start);
+            }
+        }
+    }
+
+    private static final class Slot {
+        private final Long meetingId;
+        private final LocalDateTime end;
+
+        private Slot(Long meetingId, LocalDateTime end) {
+            this.meetingId = meetingId;
+            this.end = end;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Optional;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import com.cdac.cdacConnect.dto.CursorPage;
 import com.cdac.cdacConnect.entity.Mentor;
 
 @Service
@@ -22,11 +23,23 @@ public interface MentorService {
     // Get all mentors
     List<Mentor> getAllMentor();
 
+    // Get one keyset page of mentors
+    CursorPage<Mentor> getMentorPage(Long afterId, int limit);
+
     // Get mentor by ID
     Optional<Mentor> getMentorById(Long id);
 
     // Get mentor by email
     Optional<Mentor> getMentorByEmail(String email);
 
+    // One keyset page of mentors with all of the "all" skills, any of the "any" skills and none of the "none" skills
+    CursorPage<Mentor> searchMentorsBySkills(List<String> all, List<String> any, List<String> none, Long afterId, int limit);
+
 	Mentor addSkillsToMentor(Long mentorId, List<String> skillNames);
+
+    // Remove one skill from a mentor; 400 when the mentor does not have it
+    ResponseEntity<String> removeSkillFromMentor(Long mentorId, String skillName);
+
+    // Remove the named skills the mentor has; names the mentor does not have are ignored
+    ResponseEntity<String> removeSkillsFromMentor(Long mentorId, List<String> skillNames);
 } 
\ No newline at end of file
@@ -1,20 +1,38 @@
 package com.cdac.cdacConnect.service;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import org.hibernate.Cache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.cdac.cdacConnect.dto.CursorPage;
 import com.cdac.cdacConnect.entity.Mentor;
 import com.cdac.cdacConnect.entity.Skill;
 import com.cdac.cdacConnect.repository.MentorRepository;
 import com.cdac.cdacConnect.repository.SkillRepository;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
 @Service
 public class MentorServiceImpl implements MentorService {
 
@@ -27,6 +45,36 @@ public class MentorServiceImpl implements MentorService {
     @Autowired
     private BCryptPasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserExistenceCache userExistenceCache;
+
+    @Autowired
+    private MentorSkillIndex mentorSkillIndex;
+
+    @Autowired
+    private SkillCatalogCache skillCatalogCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TransactionTemplate transactionTemplate;
+
+    private static final int MAX_SKILL_INSERT_ATTEMPTS = 3;
+
+    // Second-level cache role of the Mentor.skills collection
+    private static final String MENTOR_SKILLS_ROLE = Mentor.class.getName() + ".skills";
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
     @Override
     public ResponseEntity<String> saveMentor(Mentor mentor) {
         try {
@@ -42,7 +90,8 @@ public class MentorServiceImpl implements MentorService {
 
             // Encrypt password before saving
             mentor.setPassword(passwordEncoder.encode(mentor.getPassword()));
-            mentorRepository.save(mentor);
+            Mentor savedMentor = mentorRepository.save(mentor);
+            userExistenceCache.addMentor(savedMentor.getMentorId());
             return new ResponseEntity<>("Mentor saved successfully", HttpStatus.CREATED);
 
         } catch (Exception e) {
@@ -60,6 +109,8 @@ public class MentorServiceImpl implements MentorService {
             }
 
             mentorRepository.deleteById(id);
+            userExistenceCache.removeMentor(id);
+            mentorSkillIndex.removeMentorAfterCommit(id);
             return new ResponseEntity<>("Mentor deleted successfully", HttpStatus.OK);
 
         } catch (Exception e) {
@@ -96,6 +147,9 @@ public class MentorServiceImpl implements MentorService {
             }
 
             mentorRepository.save(mentor);
+            if (updatedMentor.getSkills() != null) {
+                mentorSkillIndex.setSkillsAfterCommit(id, skillNames(updatedMentor.getSkills()));
+            }
             return new ResponseEntity<>("Mentor updated successfully", HttpStatus.OK);
 
         } catch (Exception e) {
@@ -109,6 +163,13 @@ public class MentorServiceImpl implements MentorService {
         return mentorRepository.findAll();
     }
 
+    @Override
+    public CursorPage<Mentor> getMentorPage(Long afterId, int limit) {
+        return CursorPage.from(
+                mentorRepository.findByMentorIdGreaterThanOrderByMentorIdAsc(afterId, CursorPage.firstPage(limit)),
+                Mentor::getMentorId);
+    }
+
     @Override
     public Optional<Mentor> getMentorById(Long id) {
         return mentorRepository.findById(id);
@@ -119,30 +180,188 @@ public class MentorServiceImpl implements MentorService {
         return mentorRepository.findByEmail(email);
     }
 
+    @Override
+    public CursorPage<Mentor> searchMentorsBySkills(List<String> all, List<String> any, List<String> none,
+                                                    Long afterId, int limit) {
+        long[] ids = mentorSkillIndex.search(all, any, none, afterId, limit);
+        int count = Math.min(ids.length, limit);
+        List<Long> pageIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            pageIds.add(ids[i]);
+        }
+        // One query for the page, returned in index (id) order
+        Map<Long, Mentor> byId = new HashMap<>();
+        mentorRepository.findAllById(pageIds).forEach(mentor -> byId.put(mentor.getMentorId(), mentor));
+        List<Mentor> mentors = new ArrayList<>(count);
+        for (Long id : pageIds) {
+            Mentor mentor = byId.get(id);
+            if (mentor != null) {
+                mentors.add(mentor);
+            }
+        }
+        String next = ids.length > limit ? CursorPage.encode(pageIds.get(count - 1)) : null;
+        return new CursorPage<>(mentors, next);
+    }
+
+    private static List<String> skillNames(List<Skill> skills) {
+        List<String> names = new ArrayList<>(skills.size());
+        for (Skill skill : skills) {
+            names.add(skill.getSkillName());
+        }
+        return names;
+    }
+
 	@Override
 	public Mentor addSkillsToMentor(Long mentorId, List<String> skillNames) {
-		Optional<Mentor> optionalMentor = mentorRepository.findById(mentorId);
-        if (optionalMentor.isEmpty()) {
+        if (!userExistenceCache.mentorExists(mentorId)) {
             throw new RuntimeException("Mentor not found with id: " + mentorId);
         }
 
-        Mentor mentor = optionalMentor.get();
-        List<Skill> mentorSkills = mentor.getSkills() != null ? mentor.getSkills() : new ArrayList<>();
-
+        // Lower-cased name -> name as given, without blanks and repeats
+        Map<String, String> wanted = new LinkedHashMap<>();
         for (String skillName : skillNames) {
-            Skill skill = skillRepository.findBySkillName(skillName)
-                    .orElseGet(() -> {
-                        Skill newSkill = new Skill();
-                        newSkill.setSkillName(skillName);
-                        return skillRepository.save(newSkill);
-                    });
-
-            if (!mentorSkills.contains(skill)) {
-                mentorSkills.add(skill);
+            String name = skillName == null ? "" : skillName.trim();
+            if (!name.isEmpty()) {
+                wanted.putIfAbsent(name.toLowerCase(Locale.ROOT), name);
             }
         }
+        // Create missing skills first, in their own short transactions, then link everything in one
+        createMissingSkills(wanted);
+
+        return transactionTemplate.execute(status -> {
+            Optional<Mentor> optionalMentor = mentorRepository.findById(mentorId);
+            if (optionalMentor.isEmpty()) {
+                throw new RuntimeException("Mentor not found with id: " + mentorId);
+            }
 
-        mentor.setSkills(mentorSkills);
-        return mentorRepository.save(mentor);
+            Mentor mentor = optionalMentor.get();
+            List<Skill> mentorSkills = mentor.getSkills() != null ? mentor.getSkills() : new ArrayList<>();
+            Set<Long> linked = new HashSet<>();
+            for (Skill skill : mentorSkills) {
+                linked.add(skill.getSkillId());
+            }
+            if (!wanted.isEmpty()) {
+                for (Skill skill : skillRepository.findByLowerSkillNameIn(wanted.keySet())) {
+                    if (!skillCatalogCache.containsName(skill.getSkillName())) {
+                        skillCatalogCache.putAfterCommit(skill.getSkillId(), skill.getSkillName());
+                    }
+                    if (linked.add(skill.getSkillId())) {
+                        mentorSkills.add(skill);
+                    }
+                }
+            }
+
+            mentor.setSkills(mentorSkills);
+            Mentor savedMentor = mentorRepository.save(mentor);
+            mentorSkillIndex.setSkillsAfterCommit(mentorId, skillNames(savedMentor.getSkills()));
+            return savedMentor;
+        });
 	}
-} 
\ No newline at end of file
+
+    @Override
+    public ResponseEntity<String> removeSkillFromMentor(Long mentorId, String skillName) {
+        try {
+            if (!userExistenceCache.mentorExists(mentorId)) {
+                return new ResponseEntity<>("Mentor not found", HttpStatus.NOT_FOUND);
+            }
+            if (removeSkillLinks(mentorId, List.of(skillName)) == 0) {
+                return new ResponseEntity<>("Skill not found for this mentor", HttpStatus.BAD_REQUEST);
+            }
+            return new ResponseEntity<>("Skill '" + skillName + "' deleted successfully", HttpStatus.OK);
+
+        } catch (Exception e) {
+            return new ResponseEntity<>("Error deleting skill: " + e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Override
+    public ResponseEntity<String> removeSkillsFromMentor(Long mentorId, List<String> skillNames) {
+        try {
+            if (!userExistenceCache.mentorExists(mentorId)) {
+                return new ResponseEntity<>("Mentor not found", HttpStatus.NOT_FOUND);
+            }
+            removeSkillLinks(mentorId, skillNames);
+            return new ResponseEntity<>("Skills deleted successfully", HttpStatus.OK);
+
+        } catch (Exception e) {
+            return new ResponseEntity<>("Error deleting skills: " + e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // Delete the mentor_skill rows of the named skills (case-insensitive) in one statement.
+    // The mentor and its other links are neither loaded nor rewritten, so concurrent additions are untouched.
+    private int removeSkillLinks(Long mentorId, List<String> skillNames) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String skillName : skillNames) {
+            String name = skillName == null ? "" : skillName.trim();
+            if (!name.isEmpty()) {
+                keys.add(name.toLowerCase(Locale.ROOT));
+            }
+        }
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        return transactionTemplate.execute(status -> {
+            int removed = mentorRepository.deleteSkillLinks(mentorId, keys);
+            mentorSkillIndex.removeSkillsAfterCommit(mentorId, keys);
+            evictCachedSkills(mentorId);
+            return removed;
+        });
+    }
+
+    // Drop the mentor's cached skill list now and again after commit, since a reader may cache the old list in between
+    private void evictCachedSkills(Long mentorId) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        cache.evictCollectionData(MENTOR_SKILLS_ROLE, mentorId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cache.evictCollectionData(MENTOR_SKILLS_ROLE, mentorId);
+            }
+        });
+    }
+
+    // Insert the skills that do not exist yet: one lookup plus one batched insert per attempt.
+    // The unique key on skill_name turns a concurrent insert of the same name into a retry that finds it.
+    // Names are matched case-insensitively, as MySQL's default collation compares them.
+    // Names already in the skill catalog cache need neither the lookup nor the insert.
+    private void createMissingSkills(Map<String, String> wanted) {
+        Map<String, String> unknown = new LinkedHashMap<>();
+        wanted.forEach((key, name) -> {
+            if (!skillCatalogCache.containsName(name)) {
+                unknown.put(key, name);
+            }
+        });
+        for (int attempt = 1; !unknown.isEmpty(); attempt++) {
+            Set<String> existing = new HashSet<>();
+            for (Skill skill : skillRepository.findByLowerSkillNameIn(unknown.keySet())) {
+                existing.add(skill.getSkillName().toLowerCase(Locale.ROOT));
+            }
+            Map<String, String> missing = new LinkedHashMap<>();
+            unknown.forEach((key, name) -> {
+                if (!existing.contains(key)) {
+                    missing.put(key, name);
+                }
+            });
+            if (missing.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.batchUpdate("INSERT INTO skill (skill_name) VALUES (?)", missing.values(), missing.size(),
+                            (statement, name) -> statement.setString(1, name));
+                    // bumpVersion fast-forwards the cache past this write, so the new rows must be put with it
+                    for (Skill skill : skillRepository.findByLowerSkillNameIn(missing.keySet())) {
+                        skillCatalogCache.putAfterCommit(skill.getSkillId(), skill.getSkillName());
+                    }
+                    skillCatalogCache.bumpVersion();
+                });
+                return;
+            } catch (DuplicateKeyException e) {
+                if (attempt == MAX_SKILL_INSERT_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+}
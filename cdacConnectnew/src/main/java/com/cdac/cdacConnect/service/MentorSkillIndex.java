@@ -0,0 +1,260 @@
+package com.cdac.cdacConnect.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// In-memory skill -> mentor id bitmaps (RoaringBitmap) for multi-skill mentor search.
+// Skill names are matched case-insensitively. Mentor ids must fit in an int, which the bitmaps are keyed by.
+// MentorServiceImpl and SkillServiceImpl keep it in sync after each commit; rebuild() reloads it from mentor_skill.
+@Component
+public class MentorSkillIndex {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${mentors.skill-index.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, RoaringBitmap> current = new HashMap<>();
+    // Non-null while a rebuild runs: every change applied meanwhile, replayed onto the loaded index before the swap
+    private List<Consumer<Map<String, RoaringBitmap>>> pendingChanges;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    // Mentor ids (ascending, greater than afterId) with every skill in all, at least one in any (when given)
+    // and none of the skills in none; at most limit + 1 ids, so callers can tell whether another page follows
+    public long[] search(Collection<String> all, Collection<String> any, Collection<String> none, long afterId, int limit) {
+        if (afterId >= Integer.MAX_VALUE) {
+            return new long[0];
+        }
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = null;
+            for (String skill : all) {
+                RoaringBitmap mentors = current.getOrDefault(key(skill), new RoaringBitmap());
+                result = result == null ? mentors.clone() : RoaringBitmap.and(result, mentors);
+            }
+            if (!any.isEmpty()) {
+                List<RoaringBitmap> anyOf = new ArrayList<>();
+                for (String skill : any) {
+                    RoaringBitmap mentors = current.get(key(skill));
+                    if (mentors != null) {
+                        anyOf.add(mentors);
+                    }
+                }
+                RoaringBitmap union = FastAggregation.or(anyOf.iterator());
+                result = result == null ? union : RoaringBitmap.and(result, union);
+            }
+            if (result == null) {
+                throw new IllegalArgumentException("Give at least one skill in all or any");
+            }
+            for (String skill : none) {
+                RoaringBitmap mentors = current.get(key(skill));
+                if (mentors != null) {
+                    result.andNot(mentors);
+                }
+            }
+
+            long[] page = new long[limit + 1];
+            int n = 0;
+            PeekableIntIterator ids = result.getIntIterator();
+            ids.advanceIfNeeded((int) Math.max(0, afterId + 1));
+            while (ids.hasNext() && n < page.length) {
+                page[n++] = ids.next();
+            }
+            return n == page.length ? page : Arrays.copyOf(page, n);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Copies of the bitmaps for the given skills (one per distinct name; an unknown skill gives an empty bitmap)
+    public List<RoaringBitmap> mentorsWithEach(Collection<String> skillNames) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String skillName : skillNames) {
+            keys.add(key(skillName));
+        }
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> bitmaps = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                RoaringBitmap mentors = current.get(key);
+                bitmaps.add(mentors == null ? new RoaringBitmap() : mentors.clone());
+            }
+            return bitmaps;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Number of mentors holding each of the given skills, in the same order
+    public int[] mentorCounts(List<String> skillNames) {
+        int[] counts = new int[skillNames.size()];
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < counts.length; i++) {
+                RoaringBitmap mentors = current.get(key(skillNames.get(i)));
+                counts[i] = mentors == null ? 0 : mentors.getCardinality();
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Replace a mentor's skills once the transaction commits
+    public void setSkillsAfterCommit(Long mentorId, Collection<String> skillNames) {
+        int id = Math.toIntExact(mentorId);
+        List<String> keys = new ArrayList<>();
+        for (String skillName : skillNames) {
+            keys.add(key(skillName));
+        }
+        afterCommit(() -> apply(index -> {
+            removeMentor(index, id);
+            for (String key : keys) {
+                index.computeIfAbsent(key, k -> new RoaringBitmap()).add(id);
+            }
+        }));
+    }
+
+    // Take some skills away from a mentor once the transaction commits
+    public void removeSkillsAfterCommit(Long mentorId, Collection<String> skillNames) {
+        int id = Math.toIntExact(mentorId);
+        List<String> keys = new ArrayList<>();
+        for (String skillName : skillNames) {
+            keys.add(key(skillName));
+        }
+        afterCommit(() -> apply(index -> {
+            for (String key : keys) {
+                RoaringBitmap mentors = index.get(key);
+                if (mentors != null) {
+                    mentors.remove(id);
+                    if (mentors.isEmpty()) {
+                        index.remove(key);
+                    }
+                }
+            }
+        }));
+    }
+
+    // Drop a deleted mentor once the transaction commits
+    public void removeMentorAfterCommit(Long mentorId) {
+        int id = Math.toIntExact(mentorId);
+        afterCommit(() -> apply(index -> removeMentor(index, id)));
+    }
+
+    // Move a renamed skill's mentors to the new name once the transaction commits
+    public void renameSkillAfterCommit(String oldName, String newName) {
+        String oldKey = key(oldName);
+        String newKey = key(newName);
+        afterCommit(() -> apply(index -> {
+            RoaringBitmap mentors = index.remove(oldKey);
+            if (mentors != null) {
+                index.computeIfAbsent(newKey, k -> new RoaringBitmap()).or(mentors);
+            }
+        }));
+    }
+
+    // Reload from mentor_skill; searches keep using the old index until the swap
+    public int rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            Map<String, RoaringBitmap> loaded = new HashMap<>();
+            jdbcTemplate.query("SELECT ms.mentor_id, s.skill_name FROM mentor_skill ms JOIN skill s ON s.skill_id = ms.skill_id "
+                    + "WHERE s.skill_name IS NOT NULL", rs -> {
+                        loaded.computeIfAbsent(key(rs.getString(2)), k -> new RoaringBitmap())
+                                .add(Math.toIntExact(rs.getLong(1)));
+                    });
+
+            lock.writeLock().lock();
+            try {
+                // Writes that committed while the load ran may or may not be in it; every change is idempotent,
+                // so replaying them in order gives the committed state (removals included)
+                for (Consumer<Map<String, RoaringBitmap>> change : pendingChanges) {
+                    change.accept(loaded);
+                }
+                loaded.forEach((skill, mentors) -> mentors.runOptimize());
+                current = loaded;
+                return current.size();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void apply(Consumer<Map<String, RoaringBitmap>> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(current);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void removeMentor(Map<String, RoaringBitmap> index, int mentorId) {
+        index.values().removeIf(mentors -> {
+            mentors.remove(mentorId);
+            return mentors.isEmpty();
+        });
+    }
+
+    private static String key(String skillName) {
+        return skillName == null ? "" : skillName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
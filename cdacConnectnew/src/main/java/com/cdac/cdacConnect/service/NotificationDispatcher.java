@@ -0,0 +1,284 @@
+package com.cdac.cdacConnect.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.cdac.cdacConnect.entity.Mentor;
+import com.cdac.cdacConnect.entity.Student;
+import com.cdac.cdacConnect.repository.MentorRepository;
+import com.cdac.cdacConnect.repository.StudentRepository;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+// Drains notification_outbox in the background:
+// 1. claim up to notifications.batch-size due rows by pushing their next_attempt_at forward (a lease),
+//    so other nodes skip them and a crashed node's rows become due again when the lease runs out
+// 2. look up the recipients and send the whole batch over one SMTP connection
+// 3. mark rows SENT, or schedule a retry with exponential backoff; after notifications.max-attempts
+//    (or when the recipient no longer exists) a row is marked FAILED
+// Pending rows live in the database, so nothing is lost across restarts.
+@Component
+public class NotificationDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private static final int LEASE_MINUTES = 5;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private ObjectProvider<JavaMailSender> mailSender;
+
+    @Value("${notifications.enabled:false}")
+    private boolean enabled;
+
+    @Value("${notifications.from:no-reply@cdacconnect.local}")
+    private String from;
+
+    @Value("${notifications.batch-size:50}")
+    private int batchSize;
+
+    @Value("${notifications.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${notifications.backoff-base-seconds:30}")
+    private long backoffBaseSeconds;
+
+    @Value("${notifications.backoff-max-seconds:3600}")
+    private long backoffMaxSeconds;
+
+    @Scheduled(fixedDelayString = "${notifications.dispatch-interval-ms:5000}")
+    public void run() {
+        JavaMailSender sender = mailSender.getIfAvailable();
+        if (!enabled || sender == null) {
+            return;
+        }
+        int sent = 0;
+        int claimed;
+        do {
+            int[] result = dispatchBatch(sender);
+            claimed = result[0];
+            sent += result[1];
+        } while (claimed == batchSize);
+        if (sent > 0) {
+            log.debug("Notification dispatch: sent={}", sent);
+        }
+    }
+
+    // Send one batch of due notifications; returns {claimed, sent}
+    public int[] dispatchBatch(JavaMailSender sender) {
+        List<OutboxRow> rows = claimDueRows();
+        if (rows.isEmpty()) {
+            return new int[] { 0, 0 };
+        }
+
+        Set<Long> studentIds = new HashSet<>();
+        Set<Long> mentorIds = new HashSet<>();
+        for (OutboxRow row : rows) {
+            studentIds.add(row.studentId);
+            mentorIds.add(row.mentorId);
+        }
+        Map<Long, Student> students = new HashMap<>();
+        studentRepository.findAllById(studentIds).forEach(student -> students.put(student.getStudId(), student));
+        Map<Long, Mentor> mentors = new HashMap<>();
+        mentorRepository.findAllById(mentorIds).forEach(mentor -> mentors.put(mentor.getMentorId(), mentor));
+
+        // MimeMessage uses identity equality, so this keeps batch order and maps failures back to rows
+        Map<MimeMessage, OutboxRow> messages = new LinkedHashMap<>();
+        for (OutboxRow row : rows) {
+            Student student = students.get(row.studentId);
+            Mentor mentor = mentors.get(row.mentorId);
+            if (student == null || mentor == null) {
+                markFailed(row, "Recipient not found");
+                continue;
+            }
+            try {
+                messages.put(render(sender, row, student, mentor), row);
+            } catch (MessagingException e) {
+                markFailed(row, e.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            return new int[] { rows.size(), 0 };
+        }
+
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        try {
+            sender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failures.putAll(e.getFailedMessages());
+            if (failures.isEmpty()) {
+                messages.keySet().forEach(message -> failures.put(message, e));
+            }
+        } catch (MailException e) {
+            messages.keySet().forEach(message -> failures.put(message, e));
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        for (Map.Entry<MimeMessage, OutboxRow> entry : messages.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                sentIds.add(entry.getValue().id);
+            } else {
+                retryLater(entry.getValue(), failure.getMessage());
+            }
+        }
+        if (!sentIds.isEmpty()) {
+            jdbcTemplate.update("UPDATE notification_outbox SET status = 'SENT', sent_at = :now, claimed_by = NULL "
+                    + "WHERE id IN (:ids)", new MapSqlParameterSource("now", LocalDateTime.now()).addValue("ids", sentIds));
+        }
+        return new int[] { rows.size(), sentIds.size() };
+    }
+
+    private List<OutboxRow> claimDueRows() {
+        LocalDateTime now = LocalDateTime.now();
+        MapSqlParameterSource params = new MapSqlParameterSource("now", now)
+                .addValue("limit", batchSize)
+                .addValue("lease", now.plusMinutes(LEASE_MINUTES))
+                .addValue("claim", UUID.randomUUID().toString());
+        List<Long> due = jdbcTemplate.queryForList(
+                "SELECT id FROM notification_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now "
+                        + "ORDER BY next_attempt_at, id LIMIT :limit", params, Long.class);
+        if (due.isEmpty()) {
+            return List.of();
+        }
+        params.addValue("ids", due);
+        // Conditional on still being due, so a row claimed concurrently by another node is skipped
+        jdbcTemplate.update("UPDATE notification_outbox SET claimed_by = :claim, next_attempt_at = :lease "
+                + "WHERE id IN (:ids) AND status = 'PENDING' AND next_attempt_at <= :now", params);
+        return jdbcTemplate.query("SELECT id, event_type, reference_id, student_id, mentor_id, recipient_type, attempts "
+                + "FROM notification_outbox WHERE id IN (:ids) AND claimed_by = :claim ORDER BY id", params,
+                (rs, rowNum) -> new OutboxRow(rs.getLong("id"), rs.getString("event_type"), rs.getLong("reference_id"),
+                        rs.getLong("student_id"), rs.getLong("mentor_id"), rs.getString("recipient_type"), rs.getInt("attempts")));
+    }
+
+    private void retryLater(OutboxRow row, String error) {
+        int attempts = row.attempts + 1;
+        if (attempts >= maxAttempts) {
+            markFailed(row, error);
+            return;
+        }
+        long delaySeconds = Math.min(backoffMaxSeconds, backoffBaseSeconds << Math.min(attempts - 1, 20));
+        jdbcTemplate.update("UPDATE notification_outbox SET attempts = :attempts, next_attempt_at = :next, "
+                + "last_error = :error, claimed_by = NULL WHERE id = :id",
+                new MapSqlParameterSource("attempts", attempts)
+                        .addValue("next", LocalDateTime.now().plusSeconds(delaySeconds))
+                        .addValue("error", truncate(error))
+                        .addValue("id", row.id));
+    }
+
+    private void markFailed(OutboxRow row, String error) {
+        jdbcTemplate.update("UPDATE notification_outbox SET status = 'FAILED', attempts = :attempts, "
+                + "last_error = :error, claimed_by = NULL WHERE id = :id",
+                new MapSqlParameterSource("attempts", row.attempts + 1)
+                        .addValue("error", truncate(error))
+                        .addValue("id", row.id));
+    }
+
+    private MimeMessage render(JavaMailSender sender, OutboxRow row, Student student, Mentor mentor) throws MessagingException {
+        boolean toStudent = NotificationOutbox.STUDENT.equals(row.recipientType);
+        String name = toStudent ? student.getStudName() : mentor.getMentorName();
+        String subject;
+        String text;
+        switch (row.eventType) {
+            case NotificationOutbox.MEETING_CREATED:
+                subject = "New meeting request";
+                text = student.getStudName() + " has requested a meeting with you (request #" + row.referenceId + ").";
+                break;
+            case NotificationOutbox.MEETING_APPROVED:
+                subject = "Your meeting request was approved";
+                text = mentor.getMentorName() + " approved your meeting request #" + row.referenceId + ".";
+                break;
+            case NotificationOutbox.MEETING_REJECTED:
+                subject = "Your meeting request was declined";
+                text = mentor.getMentorName() + " declined your meeting request #" + row.referenceId + ".";
+                break;
+            case NotificationOutbox.MEETING_CANCELLED:
+                subject = "Meeting cancelled";
+                text = "Meeting #" + row.referenceId + " between " + student.getStudName() + " and "
+                        + mentor.getMentorName() + " has been cancelled.";
+                break;
+            case NotificationOutbox.CONNECTION_CREATED:
+                subject = "New connection request";
+                text = student.getStudName() + " would like to connect with you.";
+                break;
+            case NotificationOutbox.CONNECTION_APPROVED:
+                subject = "Your connection request was accepted";
+                text = mentor.getMentorName() + " accepted your connection request.";
+                break;
+            case NotificationOutbox.CONNECTION_REJECTED:
+                subject = "Your connection request was declined";
+                text = mentor.getMentorName() + " declined your connection request.";
+                break;
+            default:
+                throw new MessagingException("Unknown notification type: " + row.eventType);
+        }
+
+        MimeMessage message = sender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setFrom(from);
+        helper.setTo(toStudent ? student.getEmail() : mentor.getEmail());
+        helper.setSubject(subject);
+        helper.setText("Hello " + name + ",\n\n" + text + "\n\nLog in to CDAC Connect for details.");
+        return message;
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static final class OutboxRow {
+        private final long id;
+        private final String eventType;
+        private final long referenceId;
+        private final long studentId;
+        private final long mentorId;
+        private final String recipientType;
+        private final int attempts;
+
+        private OutboxRow(long id, String eventType, long referenceId, long studentId, long mentorId,
+                          String recipientType, int attempts) {
+            this.id = id;
+            this.eventType = eventType;
+            this.referenceId = referenceId;
+            this.studentId = studentId;
+            this.mentorId = mentorId;
+            this.recipientType = recipientType;
+            this.attempts = attempts;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.cdac.cdacConnect.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.cdac.cdacConnect.entity.MeetingStatus;
+import com.cdac.cdacConnect.entity.StudentMentorConnection;
+import com.cdac.cdacConnect.event.MeetingEvent;
+
+// Queues email notifications in the notification_outbox table. Rows are written inside the caller's
+// transaction, so a notification exists if and only if the state change commits.
+// NotificationDispatcher renders and sends them later, off the request thread.
+@Component
+public class NotificationOutbox {
+
+    public static final String STUDENT = "STUDENT";
+    public static final String MENTOR = "MENTOR";
+
+    public static final String MEETING_CREATED = "MEETING_CREATED";
+    public static final String MEETING_APPROVED = "MEETING_APPROVED";
+    public static final String MEETING_REJECTED = "MEETING_REJECTED";
+    public static final String MEETING_CANCELLED = "MEETING_CANCELLED";
+    public static final String CONNECTION_CREATED = "CONNECTION_CREATED";
+    public static final String CONNECTION_APPROVED = "CONNECTION_APPROVED";
+    public static final String CONNECTION_REJECTED = "CONNECTION_REJECTED";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${notifications.enabled:false}")
+    private boolean enabled;
+
+    // MeetingService publishes its events inside the transaction that made the change
+    @EventListener
+    public void onMeetingEvent(MeetingEvent event) {
+        if (MeetingEvent.CREATED.equals(event.getType())) {
+            enqueue(MEETING_CREATED, event.getMeetingId(), event.getStudentId(), event.getMentorId(), MENTOR);
+        } else if (MeetingStatus.APPROVED.name().equals(event.getStatus())) {
+            enqueue(MEETING_APPROVED, event.getMeetingId(), event.getStudentId(), event.getMentorId(), STUDENT);
+        } else if (MeetingStatus.REJECTED.name().equals(event.getStatus())) {
+            enqueue(MEETING_REJECTED, event.getMeetingId(), event.getStudentId(), event.getMentorId(), STUDENT);
+        } else if (MeetingStatus.CANCELLED.name().equals(event.getStatus())) {
+            enqueue(MEETING_CANCELLED, event.getMeetingId(), event.getStudentId(), event.getMentorId(), STUDENT);
+            enqueue(MEETING_CANCELLED, event.getMeetingId(), event.getStudentId(), event.getMentorId(), MENTOR);
+        }
+    }
+
+    // A student asked to connect: tell the mentor
+    public void connectionCreated(StudentMentorConnection connection) {
+        enqueue(CONNECTION_CREATED, connection.getConnectionId(), connection.getStudentId(), connection.getMentorId(), MENTOR);
+    }
+
+    // The mentor answered a connection request: tell the student
+    public void connectionStatusChanged(StudentMentorConnection connection) {
+        if ("APPROVED".equals(connection.getStatus())) {
+            enqueue(CONNECTION_APPROVED, connection.getConnectionId(), connection.getStudentId(), connection.getMentorId(), STUDENT);
+        } else if ("REJECTED".equals(connection.getStatus())) {
+            enqueue(CONNECTION_REJECTED, connection.getConnectionId(), connection.getStudentId(), connection.getMentorId(), STUDENT);
+        }
+    }
+
+    private void enqueue(String eventType, Long referenceId, Long studentId, Long mentorId, String recipientType) {
+        if (!enabled) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(
+                "INSERT INTO notification_outbox (event_type, reference_id, student_id, mentor_id, recipient_type, status, "
+                        + "attempts, next_attempt_at, created_at) VALUES (?, ?, ?, ?, ?, 'PENDING', 0, ?, ?)",
+                eventType, referenceId, studentId, mentorId, recipientType, now, now);
+    }
+}
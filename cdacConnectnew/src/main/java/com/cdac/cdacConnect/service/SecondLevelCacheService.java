@@ -0,0 +1,39 @@
+package com.cdac.cdacConnect.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.cdac.cdacConnect.dto.CacheRegionStats;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Counters of the Hibernate second-level and query cache regions (see application.conf for their sizing).
+// Needs hibernate.generate_statistics; without it every counter reads 0.
+@Service
+public class SecondLevelCacheService {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    public List<CacheRegionStats> regionStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String[] regions = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regions);
+        List<CacheRegionStats> stats = new ArrayList<>(regions.length);
+        for (String region : regions) {
+            CacheRegionStatistics counters = statistics.getCacheRegionStatistics(region);
+            if (counters != null) {
+                stats.add(new CacheRegionStats(region, counters.getHitCount(), counters.getMissCount(),
+                        counters.getPutCount(), counters.getElementCountInMemory()));
+            }
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,226 @@
+package com.cdac.cdacConnect.service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.cdac.cdacConnect.dto.SkillCatalogStats;
+import com.cdac.cdacConnect.entity.Skill;
+
+// The whole skill catalog in memory (lower-cased name -> skill, id -> skill), so skill lookups by name or id
+// never query the database. Writes on this node go through write-through: the writer bumps the version stamp
+// in skill_catalog_version inside its transaction and updates the catalog after commit. Other nodes notice
+// the new stamp on their next poll (skills.catalog.refresh-interval-ms) and reload the catalog.
+@Component
+public class SkillCatalogCache {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private volatile Catalog catalog = new Catalog(-1, new HashMap<>(), new HashMap<>());
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder reloads = new LongAdder();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        reload();
+    }
+
+    // Reload when another node has changed the catalog
+    @Scheduled(fixedDelayString = "${skills.catalog.refresh-interval-ms:5000}")
+    public void refreshIfChanged() {
+        if (currentVersion() != catalog.version) {
+            reload();
+        }
+    }
+
+    public Optional<Skill> findByName(String skillName) {
+        return count(catalog.byName.get(key(skillName)));
+    }
+
+    public Optional<Skill> findById(Long skillId) {
+        return count(catalog.byId.get(skillId));
+    }
+
+    public boolean containsName(String skillName) {
+        return findByName(skillName).isPresent();
+    }
+
+    // Every skill whose name starts with the prefix (case-insensitive), in name order; not counted as hits/misses
+    public void forEachWithPrefix(String prefix, BiConsumer<Long, String> action) {
+        Entry[] sorted = catalog.sorted;
+        String key = key(prefix);
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid].key.compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < sorted.length && sorted[i].key.startsWith(key); i++) {
+            action.accept(sorted[i].id, sorted[i].name);
+        }
+    }
+
+    // Call inside the transaction that creates, renames or deletes skills, before it commits
+    public void bumpVersion() {
+        jdbcTemplate.update("UPDATE skill_catalog_version SET version = version + 1 WHERE id = 1");
+        long version = currentVersion();
+        afterCommit(() -> {
+            synchronized (this) {
+                // Only this write happened since our copy was loaded: the catalog stays current once it is applied
+                if (catalog.version == version - 1) {
+                    catalog = catalog.withVersion(version);
+                }
+            }
+        });
+    }
+
+    // Write-through: add or rename a skill once the transaction commits
+    public void putAfterCommit(Long skillId, String skillName) {
+        afterCommit(() -> {
+            synchronized (this) {
+                catalog = catalog.with(skillId, skillName);
+            }
+        });
+    }
+
+    // Write-through: drop a deleted skill once the transaction commits
+    public void removeAfterCommit(Long skillId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                catalog = catalog.without(skillId);
+            }
+        });
+    }
+
+    // Load every skill; the stamp is read first, so a write racing with the load triggers another reload
+    public synchronized int reload() {
+        long version = currentVersion();
+        Map<String, Entry> byName = new HashMap<>();
+        Map<Long, Entry> byId = new HashMap<>();
+        jdbcTemplate.query("SELECT skill_id, skill_name FROM skill WHERE skill_name IS NOT NULL", rs -> {
+            Entry entry = new Entry(rs.getLong(1), rs.getString(2));
+            byId.put(entry.id, entry);
+            byName.putIfAbsent(entry.key, entry);
+        });
+        catalog = new Catalog(version, byName, byId);
+        reloads.increment();
+        return byId.size();
+    }
+
+    public SkillCatalogStats stats() {
+        Catalog current = catalog;
+        return new SkillCatalogStats(current.byId.size(), current.version, hits.sum(), misses.sum(), reloads.sum());
+    }
+
+    private Optional<Skill> count(Entry entry) {
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        // A fresh detached copy per call, so callers cannot change the cached entry
+        Skill skill = new Skill();
+        skill.setSkillId(entry.id);
+        skill.setSkillName(entry.name);
+        return Optional.of(skill);
+    }
+
+    private long currentVersion() {
+        Long version = jdbcTemplate.queryForObject("SELECT version FROM skill_catalog_version WHERE id = 1", Long.class);
+        return version == null ? 0 : version;
+    }
+
+    static String key(String skillName) {
+        return skillName == null ? "" : skillName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class Entry {
+        private final long id;
+        private final String name;
+        private final String key;
+
+        private Entry(long id, String name) {
+            this.id = id;
+            this.name = name;
+            this.key = key(name);
+        }
+    }
+
+    // Immutable snapshot; writes replace it with a modified copy (the catalog is small and changes rarely)
+    private static final class Catalog {
+        private final long version;
+        private final Map<String, Entry> byName;
+        private final Map<Long, Entry> byId;
+        // Entries sorted by lower-cased name, for prefix lookups
+        private final Entry[] sorted;
+
+        private Catalog(long version, Map<String, Entry> byName, Map<Long, Entry> byId) {
+            this.version = version;
+            this.byName = Collections.unmodifiableMap(byName);
+            this.byId = Collections.unmodifiableMap(byId);
+            this.sorted = byName.values().toArray(new Entry[0]);
+            Arrays.sort(sorted, Comparator.comparing((Entry entry) -> entry.key));
+        }
+
+        private Catalog withVersion(long newVersion) {
+            return new Catalog(newVersion, new HashMap<>(byName), new HashMap<>(byId));
+        }
+
+        private Catalog with(Long skillId, String skillName) {
+            Catalog copy = without(skillId);
+            Map<String, Entry> names = new HashMap<>(copy.byName);
+            Map<Long, Entry> ids = new HashMap<>(copy.byId);
+            Entry entry = new Entry(skillId, skillName);
+            ids.put(skillId, entry);
+            names.put(entry.key, entry);
+            return new Catalog(version, names, ids);
+        }
+
+        private Catalog without(Long skillId) {
+            Entry old = byId.get(skillId);
+            if (old == null) {
+                return this;
+            }
+            Map<String, Entry> names = new HashMap<>(byName);
+            Map<Long, Entry> ids = new HashMap<>(byId);
+            ids.remove(skillId);
+            names.remove(old.key, old);
+            return new Catalog(version, names, ids);
+        }
+    }
+}
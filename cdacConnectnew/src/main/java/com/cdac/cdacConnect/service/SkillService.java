@@ -6,6 +6,11 @@ import java.util.Optional;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import com.cdac.cdacConnect.dto.CursorPage;
+import com.cdac.cdacConnect.dto.MentorSummary;
+import com.cdac.cdacConnect.dto.SkillCatalogStats;
+import com.cdac.cdacConnect.dto.SkillSuggestion;
+import com.cdac.cdacConnect.dto.SkillSummary;
 import com.cdac.cdacConnect.entity.Skill;
 
 @Service
@@ -19,12 +24,24 @@ public interface SkillService {
     // Update existing skill
     ResponseEntity<String> updateSkill(Long id, Skill updatedSkill);
 
-    // Get all skills
-    List<Skill> getAllSkill();
+    // Get all skills with their mentor counts
+    List<SkillSummary> getAllSkill();
 
-    // Get skill by ID
-    Optional<Skill> getSkillById(Long id);
+    // Get one keyset page of skills with their mentor counts
+    CursorPage<SkillSummary> getSkillPage(Long afterId, int limit);
 
-    // Get skill by name
+    // Get skill by ID, with its mentor count
+    Optional<SkillSummary> getSkillById(Long id);
+
+    // Get one keyset page of the mentors holding a skill; empty when the skill does not exist
+    Optional<CursorPage<MentorSummary>> getMentorsWithSkill(Long id, Long afterId, int limit);
+
+    // Get skill by name (case-insensitive, from the cached catalog; mentors are not included)
     Optional<Skill> getSkillByName(String skillName);
+
+    // Skill catalog cache counters
+    SkillCatalogStats getCatalogStats();
+
+    // Skills starting with the prefix (case-insensitive), most widely held first
+    List<SkillSuggestion> suggestSkills(String prefix, int limit);
 } 
\ No newline at end of file
@@ -1,15 +1,29 @@
 package com.cdac.cdacConnect.service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.PriorityQueue;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import com.cdac.cdacConnect.dto.CursorPage;
+import com.cdac.cdacConnect.dto.MentorSummary;
+import com.cdac.cdacConnect.dto.SkillCatalogStats;
+import com.cdac.cdacConnect.dto.SkillSuggestion;
+import com.cdac.cdacConnect.dto.SkillSummary;
 import com.cdac.cdacConnect.entity.Skill;
+import com.cdac.cdacConnect.repository.MentorRepository;
 import com.cdac.cdacConnect.repository.SkillRepository;
+import com.cdac.cdacConnect.repository.StudentMentorConnectionRepository;
 
 @Service
 public class SkillServiceImpl implements SkillService {
@@ -17,29 +31,49 @@ public class SkillServiceImpl implements SkillService {
     @Autowired
     private SkillRepository skillRepository;
 
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private StudentMentorConnectionRepository connectionRepository;
+
+    @Autowired
+    private MentorSkillIndex mentorSkillIndex;
+
+    @Autowired
+    private SkillCatalogCache skillCatalogCache;
+
     @Override
+    @Transactional
     public ResponseEntity<String> saveSkill(Skill skill) {
         try {
             if (skill == null || skill.getSkillName() == null || skill.getSkillName().trim().isEmpty()) {
                 return new ResponseEntity<>("Skill data is invalid", HttpStatus.BAD_REQUEST);
             }
 
-            // Check if skill name already exists
-            Optional<Skill> existingSkill = skillRepository.findBySkillName(skill.getSkillName());
-            if (existingSkill.isPresent()) {
+            // Check if skill name already exists (case-insensitively, in the cached catalog)
+            if (skillCatalogCache.containsName(skill.getSkillName())) {
                 return new ResponseEntity<>("Skill with this name already exists", HttpStatus.CONFLICT);
             }
 
-            skillRepository.save(skill);
+            // Flush now so the unique key on skill_name reports a name created elsewhere meanwhile
+            Skill savedSkill = skillRepository.saveAndFlush(skill);
+            skillCatalogCache.bumpVersion();
+            skillCatalogCache.putAfterCommit(savedSkill.getSkillId(), savedSkill.getSkillName());
             return new ResponseEntity<>("Skill saved successfully", HttpStatus.CREATED);
 
+        } catch (DataIntegrityViolationException e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return new ResponseEntity<>("Skill with this name already exists", HttpStatus.CONFLICT);
         } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return new ResponseEntity<>("Error occurred while saving skill: " + e.getMessage(), 
                 HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
     @Override
+    @Transactional
     public ResponseEntity<String> deleteSkill(Long id) {
         try {
             Optional<Skill> skill = skillRepository.findById(id);
@@ -47,22 +81,32 @@ public class SkillServiceImpl implements SkillService {
                 return new ResponseEntity<>("Skill not found", HttpStatus.NOT_FOUND);
             }
 
-            // Check if skill is associated with any mentors
-            if (!skill.get().getMentors().isEmpty()) {
+            // Check if skill is associated with any mentors (an existence query, not the whole collection)
+            if (mentorRepository.existsBySkills_SkillId(id)) {
                 return new ResponseEntity<>("Cannot delete skill as it is associated with mentors", 
                     HttpStatus.CONFLICT);
             }
 
-            skillRepository.deleteById(id);
+            // connection_skill references the skill through fk_connection_skill_skill
+            if (connectionRepository.existsBySkills_SkillId(id)) {
+                return new ResponseEntity<>("Cannot delete skill as it is associated with connections",
+                    HttpStatus.CONFLICT);
+            }
+
+            skillRepository.delete(skill.get());
+            skillCatalogCache.bumpVersion();
+            skillCatalogCache.removeAfterCommit(id);
             return new ResponseEntity<>("Skill deleted successfully", HttpStatus.OK);
 
         } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return new ResponseEntity<>("Error occurred while deleting skill: " + e.getMessage(), 
                 HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
     @Override
+    @Transactional
     public ResponseEntity<String> updateSkill(Long id, Skill updatedSkill) {
         try {
             Optional<Skill> existingSkill = skillRepository.findById(id);
@@ -74,34 +118,94 @@ public class SkillServiceImpl implements SkillService {
             
             // Check if new name already exists (if name is being updated)
             if (updatedSkill.getSkillName() != null && !updatedSkill.getSkillName().equals(skill.getSkillName())) {
-                Optional<Skill> skillWithNewName = skillRepository.findBySkillName(updatedSkill.getSkillName());
-                if (skillWithNewName.isPresent()) {
+                Optional<Skill> skillWithNewName = skillCatalogCache.findByName(updatedSkill.getSkillName());
+                if (skillWithNewName.isPresent() && !skillWithNewName.get().getSkillId().equals(id)) {
                     return new ResponseEntity<>("Skill with this name already exists", HttpStatus.CONFLICT);
                 }
+                mentorSkillIndex.renameSkillAfterCommit(skill.getSkillName(), updatedSkill.getSkillName());
                 skill.setSkillName(updatedSkill.getSkillName());
+                skillCatalogCache.bumpVersion();
+                skillCatalogCache.putAfterCommit(id, updatedSkill.getSkillName());
             }
 
-            skillRepository.save(skill);
+            skillRepository.saveAndFlush(skill);
             return new ResponseEntity<>("Skill updated successfully", HttpStatus.OK);
 
+        } catch (DataIntegrityViolationException e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return new ResponseEntity<>("Skill with this name already exists", HttpStatus.CONFLICT);
         } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return new ResponseEntity<>("Error occurred while updating skill: " + e.getMessage(), 
                 HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
     @Override
-    public List<Skill> getAllSkill() {
-        return skillRepository.findAll();
+    public List<SkillSummary> getAllSkill() {
+        return skillRepository.findAllSummaries();
+    }
+
+    @Override
+    public CursorPage<SkillSummary> getSkillPage(Long afterId, int limit) {
+        return CursorPage.from(skillRepository.findSummariesAfter(afterId, CursorPage.firstPage(limit)),
+                SkillSummary::getSkillId);
     }
 
     @Override
-    public Optional<Skill> getSkillById(Long id) {
-        return skillRepository.findById(id);
+    public Optional<SkillSummary> getSkillById(Long id) {
+        return skillRepository.findSummaryById(id);
+    }
+
+    @Override
+    public Optional<CursorPage<MentorSummary>> getMentorsWithSkill(Long id, Long afterId, int limit) {
+        // The catalog cache answers for known skills; only a miss needs the database
+        if (skillCatalogCache.findById(id).isEmpty() && !skillRepository.existsById(id)) {
+            return Optional.empty();
+        }
+        return Optional.of(CursorPage.from(
+                mentorRepository.findSummariesBySkillId(id, afterId, CursorPage.firstPage(limit)),
+                MentorSummary::getMentorId));
     }
 
     @Override
     public Optional<Skill> getSkillByName(String skillName) {
-        return skillRepository.findBySkillName(skillName);
+        return skillCatalogCache.findByName(skillName);
+    }
+
+    @Override
+    public SkillCatalogStats getCatalogStats() {
+        return skillCatalogCache.stats();
+    }
+
+    // Served from memory: the prefix range of the sorted skill catalog, ranked by the mentor counts
+    // of MentorSkillIndex (ties in name order), so it never queries the database
+    @Override
+    public List<SkillSuggestion> suggestSkills(String prefix, int limit) {
+        List<Long> ids = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        skillCatalogCache.forEachWithPrefix(prefix, (id, name) -> {
+            ids.add(id);
+            names.add(name);
+        });
+        int[] counts = mentorSkillIndex.mentorCounts(names);
+
+        // Min-heap of the best "limit" positions: fewer mentors, then later in name order, is worse
+        Comparator<Integer> worstFirst = Comparator.comparingInt((Integer i) -> counts[i])
+                .thenComparing(Comparator.reverseOrder());
+        PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1, worstFirst);
+        for (int i = 0; i < counts.length; i++) {
+            best.add(i);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<SkillSuggestion> suggestions = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            int i = best.poll();
+            suggestions.add(new SkillSuggestion(ids.get(i), names.get(i), counts[i]));
+        }
+        Collections.reverse(suggestions);
+        return suggestions;
     }
-} 
\ No newline at end of file
+}
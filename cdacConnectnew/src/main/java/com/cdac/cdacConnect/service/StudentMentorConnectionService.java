@@ -1,13 +1,24 @@
 package com.cdac.cdacConnect.service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import com.cdac.cdacConnect.dto.ConnectionGraphStats;
+import com.cdac.cdacConnect.dto.CursorPage;
+import com.cdac.cdacConnect.entity.Skill;
 import com.cdac.cdacConnect.entity.StudentMentorConnection;
+import com.cdac.cdacConnect.repository.SkillRepository;
 import com.cdac.cdacConnect.repository.StudentMentorConnectionRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -18,17 +29,33 @@ public class StudentMentorConnectionService {
     @Autowired
     private StudentMentorConnectionRepository connectionRepository;
     
-    private ObjectMapper objectMapper = new ObjectMapper();
+    @Autowired
+    private UserExistenceCache userExistenceCache;
+    
+    @Autowired
+    private NotificationOutbox notificationOutbox;
+    
+    @Autowired
+    private SkillRepository skillRepository;
+    
+    @Autowired
+    private ConnectionGraphIndex connectionGraphIndex;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    private static final String UNIQUE_STUDENT_MENTOR = "uk_connections_student_mentor";
 
     // Create a new connection
+    @Transactional
     public ResponseEntity<String> createConnection(StudentMentorConnection connection) {
         try {
-            // Check if connection already exists
-            Optional<StudentMentorConnection> existingConnection = 
-                connectionRepository.findByStudentIdAndMentorId(connection.getStudentId(), connection.getMentorId());
-            
-            if (existingConnection.isPresent()) {
-                return ResponseEntity.badRequest().body("Connection already exists between this student and mentor");
+            // Validate student and mentor exist
+            if (!userExistenceCache.studentExists(connection.getStudentId())) {
+                return ResponseEntity.badRequest().body("Student not found");
+            }
+            if (!userExistenceCache.mentorExists(connection.getMentorId())) {
+                return ResponseEntity.badRequest().body("Mentor not found");
             }
             
             // Convert selected skills list to JSON string if it's not already
@@ -38,19 +65,66 @@ public class StudentMentorConnectionService {
                 connection.setSelectedSkills(objectMapper.writeValueAsString(skills));
             }
             
-            StudentMentorConnection savedConnection = connectionRepository.save(connection);
+            // Link the selected skills that exist in the catalog (matched case-insensitively)
+            List<String> skillNames = selectedSkillNames(connection.getSelectedSkills());
+            if (!skillNames.isEmpty()) {
+                connection.setSkills(new HashSet<>(skillRepository.findByLowerSkillNameIn(skillNames)));
+            }
+            
+            // The unique key on (student_id, mentor_id) rejects duplicates, even from concurrent requests
+            StudentMentorConnection savedConnection = connectionRepository.saveAndFlush(connection);
+            notificationOutbox.connectionCreated(savedConnection);
+            connectionGraphIndex.updateAfterCommit(savedConnection);
             return ResponseEntity.ok("Connection created successfully with ID: " + savedConnection.getConnectionId());
             
+        } catch (DataIntegrityViolationException e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            if (isDuplicateConnection(e)) {
+                return ResponseEntity.badRequest().body("Connection already exists between this student and mentor");
+            }
+            return ResponseEntity.badRequest().body("Failed to create connection: " + e.getMessage());
         } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return ResponseEntity.badRequest().body("Failed to create connection: " + e.getMessage());
         }
     }
 
+    // Lower-cased names from the selected skills JSON array
+    private List<String> selectedSkillNames(String selectedSkills) throws JsonProcessingException {
+        List<String> names = new ArrayList<>();
+        if (selectedSkills == null) {
+            return names;
+        }
+        for (String name : objectMapper.readValue(selectedSkills, String[].class)) {
+            if (name != null && !name.isBlank()) {
+                names.add(name.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return names;
+    }
+
+    // Was the violation the (student_id, mentor_id) unique key?
+    private static boolean isDuplicateConnection(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(UNIQUE_STUDENT_MENTOR);
+            }
+        }
+        return false;
+    }
+
     // Get all connections
     public List<StudentMentorConnection> getAllConnections() {
         return connectionRepository.findAll();
     }
 
+    // Get one keyset page of connections
+    public CursorPage<StudentMentorConnection> getConnectionsPage(Long afterId, int limit) {
+        return CursorPage.from(
+                connectionRepository.findByConnectionIdGreaterThanOrderByConnectionIdAsc(afterId, CursorPage.firstPage(limit)),
+                StudentMentorConnection::getConnectionId);
+    }
+
     // Get connection by ID
     public Optional<StudentMentorConnection> getConnectionById(Long id) {
         return connectionRepository.findById(id);
@@ -66,6 +140,48 @@ public class StudentMentorConnectionService {
         return connectionRepository.findByMentorId(mentorId);
     }
 
+    // Get connections that include a skill, optionally only those with one status
+    public List<StudentMentorConnection> getConnectionsBySkill(Long skillId, String status) {
+        return connectionRepository.findBySkillId(skillId, status);
+    }
+
+    // Get the students who connected with a mentor for a skill
+    public List<Long> getStudentIdsBySkill(Long skillId, String status) {
+        return connectionRepository.findStudentIdsBySkillId(skillId, status);
+    }
+
+    // Look up a skill by name (case-insensitively, as when linking), for the name-based skill filters
+    public Optional<Skill> getSkillByName(String skillName) {
+        if (skillName == null || skillName.isBlank()) {
+            return Optional.empty();
+        }
+        return skillRepository.findByLowerSkillNameIn(List.of(skillName.trim().toLowerCase(Locale.ROOT))).stream().findFirst();
+    }
+
+    // Students sharing an approved mentor with the student (from the in-memory graph)
+    public long[] getPeers(Long studentId) {
+        return connectionGraphIndex.peersOf(studentId);
+    }
+
+    // Mentors of the student's peers that the student is not connected to yet
+    public long[] getPeerMentors(Long studentId) {
+        return connectionGraphIndex.peerMentorsOf(studentId);
+    }
+
+    // Students approved by both mentors
+    public long[] getSharedStudents(Long mentorId, Long otherMentorId) {
+        return connectionGraphIndex.sharedStudents(mentorId, otherMentorId);
+    }
+
+    // Is the student-mentor pair approved?
+    public boolean isApproved(Long studentId, Long mentorId) {
+        return connectionGraphIndex.isApproved(studentId, mentorId);
+    }
+
+    public ConnectionGraphStats getGraphStats() {
+        return connectionGraphIndex.stats();
+    }
+
     // Get connections by student email
     public List<StudentMentorConnection> getConnectionsByStudentEmail(String studentEmail) {
         return connectionRepository.findByStudentEmail(studentEmail);
@@ -77,6 +193,7 @@ public class StudentMentorConnectionService {
     }
 
     // Update connection status
+    @Transactional
     public ResponseEntity<String> updateConnectionStatus(Long connectionId, String status) {
         Optional<StudentMentorConnection> connection = connectionRepository.findById(connectionId);
         
@@ -84,6 +201,8 @@ public class StudentMentorConnectionService {
             StudentMentorConnection existingConnection = connection.get();
             existingConnection.setStatus(status);
             connectionRepository.save(existingConnection);
+            notificationOutbox.connectionStatusChanged(existingConnection);
+            connectionGraphIndex.updateAfterCommit(existingConnection);
             return ResponseEntity.ok("Connection status updated successfully");
         } else {
             return ResponseEntity.notFound().build();
@@ -96,6 +215,7 @@ public class StudentMentorConnectionService {
         
         if (connection.isPresent()) {
             connectionRepository.delete(connection.get());
+            connectionGraphIndex.removeAfterCommit(connection.get());
             return ResponseEntity.ok("Connection deleted successfully");
         } else {
             return ResponseEntity.notFound().build();
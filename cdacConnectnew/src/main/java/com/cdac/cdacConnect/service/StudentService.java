@@ -6,6 +6,7 @@ import java.util.Optional;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import com.cdac.cdacConnect.dto.CursorPage;
 import com.cdac.cdacConnect.entity.Student;
 
 @Service
@@ -22,6 +23,9 @@ public interface StudentService {
     // Get all students
     List<Student> getAllStudent();
 
+    // Get one keyset page of students
+    CursorPage<Student> getStudentPage(Long afterId, int limit);
+
     // Get student by ID
     Optional<Student> getStudentById(Long id);
 
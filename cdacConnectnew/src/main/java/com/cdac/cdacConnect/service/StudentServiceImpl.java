@@ -9,6 +9,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.cdac.cdacConnect.dto.CursorPage;
 import com.cdac.cdacConnect.entity.Student;
 import com.cdac.cdacConnect.repository.StudentRepository;
 
@@ -21,6 +22,9 @@ public class StudentServiceImpl implements StudentService {
     @Autowired
     private BCryptPasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserExistenceCache userExistenceCache;
+
     @Override
     public ResponseEntity<String> saveStudent(Student student) {
         try {
@@ -36,7 +40,8 @@ public class StudentServiceImpl implements StudentService {
 
             // Encrypt password before saving
             student.setPassword(passwordEncoder.encode(student.getPassword()));
-            studentRepository.save(student);
+            Student savedStudent = studentRepository.save(student);
+            userExistenceCache.addStudent(savedStudent.getStudId());
             return new ResponseEntity<>("Student saved successfully", HttpStatus.CREATED);
 
         } catch (Exception e) {
@@ -54,6 +59,7 @@ public class StudentServiceImpl implements StudentService {
             }
 
             studentRepository.deleteById(id);
+            userExistenceCache.removeStudent(id);
             return new ResponseEntity<>("Student deleted successfully", HttpStatus.OK);
 
         } catch (Exception e) {
@@ -100,6 +106,13 @@ public class StudentServiceImpl implements StudentService {
         return studentRepository.findAll();
     }
 
+    @Override
+    public CursorPage<Student> getStudentPage(Long afterId, int limit) {
+        return CursorPage.from(
+                studentRepository.findByStudIdGreaterThanOrderByStudIdAsc(afterId, CursorPage.firstPage(limit)),
+                Student::getStudId);
+    }
+
     @Override
     public Optional<Student> getStudentById(Long id) {
         return studentRepository.findById(id);
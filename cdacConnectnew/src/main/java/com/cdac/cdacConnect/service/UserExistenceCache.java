@@ -0,0 +1,121 @@
+package com.cdac.cdacConnect.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.cdac.cdacConnect.repository.MentorRepository;
+import com.cdac.cdacConnect.repository.StudentRepository;
+
+import jakarta.annotation.PostConstruct;
+
+// Bounded cache of student and mentor ids known to exist, so meeting and connection
+// creation can validate participants without loading the entities.
+// Only hits are cached: a miss falls back to an existsById query, so users created on
+// another node are found. Entries expire after ttl-seconds, which bounds how long a user
+// deleted on another node can still be seen as existing; deletes on this node evict at once.
+@Component
+public class UserExistenceCache {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Value("${users.existence-cache.max-ids:100000}")
+    private int maxIds;
+
+    @Value("${users.existence-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    // id -> time (millis) the id was last confirmed, least recently used first
+    private Map<Long, Long> students;
+    private Map<Long, Long> mentors;
+
+    @PostConstruct
+    void init() {
+        students = boundedMap();
+        mentors = boundedMap();
+    }
+
+    // Warm with the newest ids, which are the likeliest to be creating meetings
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        PageRequest newest = PageRequest.of(0, maxIds);
+        putAll(students, studentRepository.findNewestIds(newest));
+        putAll(mentors, mentorRepository.findNewestIds(newest));
+    }
+
+    public boolean studentExists(Long studentId) {
+        return exists(students, studentId, studentRepository::existsById);
+    }
+
+    public boolean mentorExists(Long mentorId) {
+        return exists(mentors, mentorId, mentorRepository::existsById);
+    }
+
+    public void addStudent(Long studentId) {
+        students.put(studentId, System.currentTimeMillis());
+    }
+
+    public void addMentor(Long mentorId) {
+        mentors.put(mentorId, System.currentTimeMillis());
+    }
+
+    public void removeStudent(Long studentId) {
+        students.remove(studentId);
+    }
+
+    public void removeMentor(Long mentorId) {
+        mentors.remove(mentorId);
+    }
+
+    // Forget every cached id
+    public void clear() {
+        students.clear();
+        mentors.clear();
+    }
+
+    private boolean exists(Map<Long, Long> known, Long id, Predicate<Long> existsInDatabase) {
+        if (id == null) {
+            return false;
+        }
+        Long confirmedAt = known.get(id);
+        long now = System.currentTimeMillis();
+        if (confirmedAt != null && now - confirmedAt < ttlSeconds * 1000) {
+            return true;
+        }
+        if (existsInDatabase.test(id)) {
+            known.put(id, now);
+            return true;
+        }
+        known.remove(id);
+        return false;
+    }
+
+    private void putAll(Map<Long, Long> known, List<Long> ids) {
+        long now = System.currentTimeMillis();
+        for (Long id : ids) {
+            known.put(id, now);
+        }
+    }
+
+    private Map<Long, Long> boundedMap() {
+        return Collections.synchronizedMap(new LinkedHashMap<Long, Long>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > maxIds;
+            }
+        });
+    }
+}
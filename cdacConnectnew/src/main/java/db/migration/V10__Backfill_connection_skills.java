@@ -0,0 +1,112 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Fills connection_skill from the selected_skills JSON of existing connections.
+// Names are matched to skill rows case-insensitively; names with no skill row are left in the JSON only.
+// Self-contained on purpose: a migration must keep doing what it did when it first ran.
+public class V10__Backfill_connection_skills extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        backfill(context.getConnection());
+    }
+
+    // Returns the number of connection_skill rows inserted
+    public static int backfill(Connection connection) throws SQLException {
+        Map<String, Long> skillIds = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT skill_id, skill_name FROM skill WHERE skill_name IS NOT NULL")) {
+            while (rs.next()) {
+                skillIds.putIfAbsent(rs.getString("skill_name").trim().toLowerCase(Locale.ROOT), rs.getLong("skill_id"));
+            }
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        int inserted = 0;
+        int pending = 0;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT connection_id, selected_skills FROM student_mentor_connections WHERE selected_skills IS NOT NULL");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO connection_skill (connection_id, skill_id) SELECT ?, ? FROM (SELECT 1 AS one) x "
+                             + "WHERE NOT EXISTS (SELECT 1 FROM connection_skill WHERE connection_id = ? AND skill_id = ?)")) {
+            while (rs.next()) {
+                long connectionId = rs.getLong("connection_id");
+                Set<Long> linked = new LinkedHashSet<>();
+                for (String name : skillNames(objectMapper, rs.getString("selected_skills"))) {
+                    Long skillId = skillIds.get(name.toLowerCase(Locale.ROOT));
+                    if (skillId != null && linked.add(skillId)) {
+                        insert.setLong(1, connectionId);
+                        insert.setLong(2, skillId);
+                        insert.setLong(3, connectionId);
+                        insert.setLong(4, skillId);
+                        insert.addBatch();
+                        if (++pending == BATCH_SIZE) {
+                            inserted += sum(insert.executeBatch());
+                            pending = 0;
+                        }
+                    }
+                }
+            }
+            if (pending > 0) {
+                inserted += sum(insert.executeBatch());
+            }
+        }
+        return inserted;
+    }
+
+    // A JSON array of names, or (for rows written before the JSON conversion) a comma-separated list
+    private static List<String> skillNames(ObjectMapper objectMapper, String selectedSkills) {
+        List<String> names = new ArrayList<>();
+        String text = selectedSkills.trim();
+        if (text.startsWith("[")) {
+            try {
+                for (JsonNode node : objectMapper.readTree(text)) {
+                    addName(names, node.asText());
+                }
+                return names;
+            } catch (Exception e) {
+                // Not valid JSON after all: fall through to the comma-separated form
+            }
+        }
+        for (String name : text.split(",")) {
+            addName(names, name);
+        }
+        return names;
+    }
+
+    private static void addName(List<String> names, String name) {
+        String trimmed = name == null ? "" : name.trim();
+        if (!trimmed.isEmpty()) {
+            names.add(trimmed);
+        }
+    }
+
+    private static int sum(int[] counts) {
+        int total = 0;
+        for (int count : counts) {
+            total += Math.max(count, 0);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,45 @@
+-- One row per skill name: point links at the oldest row of each name, drop the rest, then add the unique key.
+-- (Derived tables keep MySQL from rejecting a subquery on the table being changed.)
+UPDATE mentor_skill
+SET skill_id = (
+    SELECT MIN(k.skill_id) FROM skill d JOIN skill k ON k.skill_name = d.skill_name WHERE d.skill_id = mentor_skill.skill_id
+)
+WHERE skill_id IN (
+    SELECT dup_id FROM (
+        SELECT d.skill_id AS dup_id FROM skill d JOIN skill k ON k.skill_name = d.skill_name AND k.skill_id < d.skill_id
+    ) dups
+);
+
+-- mentor_skill has no key, so a mentor that held two spellings now has the same (mentor_id, skill_id) twice.
+-- Rebuild it without repeats and add the primary key, so the join set cannot repeat a pair again.
+CREATE TABLE mentor_skill_distinct AS SELECT DISTINCT mentor_id, skill_id FROM mentor_skill;
+DELETE FROM mentor_skill;
+INSERT INTO mentor_skill (mentor_id, skill_id) SELECT mentor_id, skill_id FROM mentor_skill_distinct;
+DROP TABLE mentor_skill_distinct;
+ALTER TABLE mentor_skill ADD PRIMARY KEY (mentor_id, skill_id);
+
+INSERT INTO connection_skill (connection_id, skill_id)
+SELECT DISTINCT remapped.connection_id, remapped.keep_id FROM (
+    SELECT cs.connection_id,
+           (SELECT MIN(k.skill_id) FROM skill d JOIN skill k ON k.skill_name = d.skill_name WHERE d.skill_id = cs.skill_id) AS keep_id
+    FROM connection_skill cs
+) remapped
+WHERE NOT EXISTS (
+    SELECT 1 FROM connection_skill e WHERE e.connection_id = remapped.connection_id AND e.skill_id = remapped.keep_id
+);
+
+DELETE FROM connection_skill
+WHERE skill_id IN (
+    SELECT dup_id FROM (
+        SELECT d.skill_id AS dup_id FROM skill d JOIN skill k ON k.skill_name = d.skill_name AND k.skill_id < d.skill_id
+    ) dups
+);
+
+DELETE FROM skill
+WHERE skill_id IN (
+    SELECT dup_id FROM (
+        SELECT d.skill_id AS dup_id FROM skill d JOIN skill k ON k.skill_name = d.skill_name AND k.skill_id < d.skill_id
+    ) dups
+);
+
+ALTER TABLE skill ADD CONSTRAINT uk_skill_name UNIQUE (skill_name);
@@ -0,0 +1,9 @@
+-- Version stamp of the skill catalog: bumped by every transaction that creates, renames or deletes skills,
+-- and polled by each node's SkillCatalogCache to know when its in-memory copy is stale
+CREATE TABLE skill_catalog_version (
+    id INT NOT NULL,
+    version BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO skill_catalog_version (id, version) VALUES (1, 0);
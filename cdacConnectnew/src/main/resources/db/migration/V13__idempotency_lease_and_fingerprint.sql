@@ -0,0 +1,5 @@
+-- lease_until: a reservation whose request has not completed by then is treated as abandoned (crashed node)
+-- and may be reclaimed by a retry. fingerprint: SHA-256 of the caller and request body the key was first used with,
+-- so a reused key with a different payload is rejected instead of replayed.
+ALTER TABLE idempotency_keys ADD COLUMN lease_until DATETIME(6) NULL;
+ALTER TABLE idempotency_keys ADD COLUMN fingerprint CHAR(64) NULL;
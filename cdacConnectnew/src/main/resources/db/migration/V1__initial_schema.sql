@@ -0,0 +1,56 @@
+-- Schema as previously generated by spring.jpa.hibernate.ddl-auto=update
+CREATE TABLE student (
+    stud_id BIGINT NOT NULL AUTO_INCREMENT,
+    stud_name VARCHAR(255),
+    email VARCHAR(255),
+    phone VARCHAR(255),
+    password VARCHAR(255),
+    PRIMARY KEY (stud_id)
+);
+
+CREATE TABLE mentor (
+    mentor_id BIGINT NOT NULL AUTO_INCREMENT,
+    mentor_name VARCHAR(255),
+    email VARCHAR(255),
+    phone VARCHAR(255),
+    password VARCHAR(255),
+    PRIMARY KEY (mentor_id)
+);
+
+CREATE TABLE skill (
+    skill_id BIGINT NOT NULL AUTO_INCREMENT,
+    skill_name VARCHAR(255),
+    PRIMARY KEY (skill_id)
+);
+
+CREATE TABLE mentor_skill (
+    mentor_id BIGINT NOT NULL,
+    skill_id BIGINT NOT NULL,
+    CONSTRAINT fk_mentor_skill_mentor FOREIGN KEY (mentor_id) REFERENCES mentor (mentor_id),
+    CONSTRAINT fk_mentor_skill_skill FOREIGN KEY (skill_id) REFERENCES skill (skill_id)
+);
+
+CREATE TABLE meetings (
+    meeting_id BIGINT NOT NULL AUTO_INCREMENT,
+    student_id BIGINT NOT NULL,
+    mentor_id BIGINT NOT NULL,
+    selected_skills TEXT,
+    question TEXT,
+    status VARCHAR(255) NOT NULL,
+    request_date DATETIME(6) NOT NULL,
+    is_scheduled BOOLEAN NOT NULL,
+    PRIMARY KEY (meeting_id)
+);
+
+CREATE TABLE student_mentor_connections (
+    connection_id BIGINT NOT NULL AUTO_INCREMENT,
+    student_id BIGINT NOT NULL,
+    student_email VARCHAR(255) NOT NULL,
+    mentor_id BIGINT NOT NULL,
+    mentor_email VARCHAR(255) NOT NULL,
+    mentor_name VARCHAR(255) NOT NULL,
+    selected_skills TEXT,
+    connection_date DATETIME(6) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    PRIMARY KEY (connection_id)
+);
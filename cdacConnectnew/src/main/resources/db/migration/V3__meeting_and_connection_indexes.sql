@@ -0,0 +1,24 @@
+-- Indexes backing the derived queries in MeetingRepository
+-- (mentor_id, ...) and (student_id, ...) prefixes also serve findByMentorId / findByStudentId
+CREATE INDEX idx_meetings_mentor_status_date ON meetings (mentor_id, status, request_date);
+CREATE INDEX idx_meetings_student_status_date ON meetings (student_id, status, request_date);
+CREATE INDEX idx_meetings_status_id ON meetings (status, meeting_id);
+
+-- Drop duplicate connections (keeping the oldest) before adding the unique key
+DELETE FROM student_mentor_connections
+WHERE connection_id NOT IN (
+    SELECT keep_id FROM (
+        SELECT MIN(connection_id) AS keep_id
+        FROM student_mentor_connections
+        GROUP BY student_id, mentor_id
+    ) keep_rows
+);
+
+-- Indexes backing the derived queries in StudentMentorConnectionRepository
+ALTER TABLE student_mentor_connections
+    ADD CONSTRAINT uk_connections_student_mentor UNIQUE (student_id, mentor_id);
+CREATE INDEX idx_connections_student_status ON student_mentor_connections (student_id, status);
+CREATE INDEX idx_connections_mentor_status ON student_mentor_connections (mentor_id, status);
+CREATE INDEX idx_connections_student_email ON student_mentor_connections (student_email);
+CREATE INDEX idx_connections_mentor_email ON student_mentor_connections (mentor_email);
+CREATE INDEX idx_connections_status_id ON student_mentor_connections (status, connection_id);
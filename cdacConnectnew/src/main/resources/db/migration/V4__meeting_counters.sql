@@ -0,0 +1,14 @@
+-- Per-mentor and per-student meeting counts by status, maintained by MeetingCounterService
+CREATE TABLE meeting_counters (
+    owner_type VARCHAR(16) NOT NULL,
+    owner_id BIGINT NOT NULL,
+    status VARCHAR(32) NOT NULL,
+    meeting_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (owner_type, owner_id, status)
+);
+
+INSERT INTO meeting_counters (owner_type, owner_id, status, meeting_count)
+SELECT 'MENTOR', mentor_id, status, COUNT(*) FROM meetings GROUP BY mentor_id, status;
+
+INSERT INTO meeting_counters (owner_type, owner_id, status, meeting_count)
+SELECT 'STUDENT', student_id, status, COUNT(*) FROM meetings GROUP BY student_id, status;
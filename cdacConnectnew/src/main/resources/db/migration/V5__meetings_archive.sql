@@ -0,0 +1,19 @@
+-- Closed meetings moved out of the hot table by MeetingLifecycleJob
+CREATE TABLE meetings_archive (
+    meeting_id BIGINT NOT NULL,
+    student_id BIGINT NOT NULL,
+    mentor_id BIGINT NOT NULL,
+    selected_skills TEXT,
+    question TEXT,
+    status VARCHAR(255) NOT NULL,
+    request_date DATETIME(6) NOT NULL,
+    is_scheduled BOOLEAN NOT NULL,
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (meeting_id)
+);
+
+CREATE INDEX idx_meetings_archive_mentor ON meetings_archive (mentor_id, request_date);
+CREATE INDEX idx_meetings_archive_student ON meetings_archive (student_id, request_date);
+
+-- Lets the lifecycle job find old rows in a given status without scanning
+CREATE INDEX idx_meetings_status_date ON meetings (status, request_date);
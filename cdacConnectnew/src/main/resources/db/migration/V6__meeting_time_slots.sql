@@ -0,0 +1,7 @@
+-- Scheduled time slot of a meeting; approvals reject overlapping APPROVED slots per mentor
+ALTER TABLE meetings ADD scheduled_start DATETIME(6);
+ALTER TABLE meetings ADD scheduled_end DATETIME(6);
+ALTER TABLE meetings_archive ADD scheduled_start DATETIME(6);
+ALTER TABLE meetings_archive ADD scheduled_end DATETIME(6);
+
+CREATE INDEX idx_meetings_mentor_status_slot ON meetings (mentor_id, status, scheduled_start);
@@ -0,0 +1,12 @@
+-- Idempotency-Key reservations and stored responses for create endpoints, maintained by IdempotencyService.
+-- status_code is NULL while the first request is still running.
+CREATE TABLE idempotency_keys (
+    scope VARCHAR(64) NOT NULL,
+    idempotency_key VARCHAR(128) NOT NULL,
+    status_code INT NULL,
+    response_body TEXT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (scope, idempotency_key)
+);
+
+CREATE INDEX idx_idempotency_keys_created_at ON idempotency_keys (created_at);
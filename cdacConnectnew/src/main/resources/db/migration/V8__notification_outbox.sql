@@ -0,0 +1,20 @@
+-- Transactional outbox for email notifications: rows are written in the transaction that changes a
+-- meeting or connection and sent later by NotificationDispatcher. One row per recipient.
+-- next_attempt_at doubles as the claim lease: a dispatcher pushes it forward while it sends a row.
+CREATE TABLE notification_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(32) NOT NULL,
+    reference_id BIGINT NOT NULL,
+    student_id BIGINT NOT NULL,
+    mentor_id BIGINT NOT NULL,
+    recipient_type VARCHAR(16) NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    claimed_by VARCHAR(64) NULL,
+    last_error VARCHAR(1000) NULL,
+    created_at DATETIME(6) NOT NULL,
+    sent_at DATETIME(6) NULL
+);
+
+CREATE INDEX idx_notification_outbox_status_next ON notification_outbox (status, next_attempt_at);
@@ -0,0 +1,12 @@
+-- Skills of a connection as rows instead of the selected_skills JSON string, so connections can be
+-- filtered by skill through an index. selected_skills stays for clients that read it.
+-- Existing rows are backfilled by the V10 Java migration (JSON parsing is not portable SQL).
+CREATE TABLE connection_skill (
+    connection_id BIGINT NOT NULL,
+    skill_id BIGINT NOT NULL,
+    PRIMARY KEY (connection_id, skill_id),
+    CONSTRAINT fk_connection_skill_connection FOREIGN KEY (connection_id) REFERENCES student_mentor_connections (connection_id),
+    CONSTRAINT fk_connection_skill_skill FOREIGN KEY (skill_id) REFERENCES skill (skill_id)
+);
+
+CREATE INDEX idx_connection_skill_skill_connection ON connection_skill (skill_id, connection_id);
@@ -0,0 +1,37 @@
+package com.cdac.cdacConnect;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.cdac.cdacConnect.entity.Mentor;
+import com.cdac.cdacConnect.entity.Student;
+
+// Unsaved students and mentors for tests. The test classes share one database, so every fixture gets
+// an email no other fixture uses.
+public final class TestFixtures {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong(System.nanoTime());
+
+    private TestFixtures() {
+    }
+
+    public static Student student() {
+        return student("Asha");
+    }
+
+    public static Student student(String name) {
+        return new Student(null, name, uniqueEmail(name), "9000000000", "secret");
+    }
+
+    public static Mentor mentor() {
+        return mentor("Ravi");
+    }
+
+    public static Mentor mentor(String name) {
+        return new Mentor(null, name, uniqueEmail(name), "9000000001", "secret", null);
+    }
+
+    public static String uniqueEmail(String name) {
+        return name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "") + SEQUENCE.incrementAndGet() + "@cdac.in";
+    }
+}
@@ -0,0 +1,94 @@
+package com.cdac.cdacConnect.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.cdac.cdacConnect.TestFixtures;
+import com.cdac.cdacConnect.entity.Mentor;
+import com.cdac.cdacConnect.entity.Student;
+import com.cdac.cdacConnect.repository.MentorRepository;
+import com.cdac.cdacConnect.repository.StudentRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Mentor and student read endpoints (by id and by email) through the full MVC stack.
+// Run with: mvn -Pbenchmark test  (CachedReadEndpointBenchmark vs UncachedReadEndpointBenchmark)
+abstract class AbstractReadEndpointBenchmark {
+
+    private static final int USERS = 200;
+    private static final int WARMUP_ROUNDS = 25;
+    private static final int MEASURED_ROUNDS = 25;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    protected abstract String label();
+
+    @Test
+    void readEndpoints() throws Exception {
+        List<Mentor> mentors = new ArrayList<>();
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            mentors.add(mentorRepository.save(TestFixtures.mentor("Mentor " + i)));
+            students.add(studentRepository.save(TestFixtures.student("Student " + i)));
+        }
+
+        List<String> mentorById = new ArrayList<>();
+        List<String> mentorByEmail = new ArrayList<>();
+        List<String> studentById = new ArrayList<>();
+        List<String> studentByEmail = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            mentorById.add("/api/mentors/" + mentors.get(i).getMentorId());
+            mentorByEmail.add("/api/mentors/email/" + mentors.get(i).getEmail());
+            studentById.add("/api/students/" + students.get(i).getStudId());
+            studentByEmail.add("/api/students/email/" + students.get(i).getEmail());
+        }
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (List<String> urls : List.of(mentorById, mentorByEmail, studentById, studentByEmail)) {
+                run(urls);
+            }
+        }
+        System.out.printf("%n%s (%d requests per endpoint)%n", label(), USERS * MEASURED_ROUNDS);
+        measure("GET /api/mentors/{id}", mentorById);
+        measure("GET /api/mentors/email/{email}", mentorByEmail);
+        measure("GET /api/students/{id}", studentById);
+        measure("GET /api/students/email/{email}", studentByEmail);
+    }
+
+    private void measure(String endpoint, List<String> urls) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            run(urls);
+        }
+        double requests = (double) urls.size() * MEASURED_ROUNDS;
+        System.out.printf("  %-32s %8.1f us/request %6.2f statements/request%n", endpoint,
+                (System.nanoTime() - start) / requests / 1_000, statistics.getPrepareStatementCount() / requests);
+    }
+
+    private void run(List<String> urls) throws Exception {
+        for (String url : urls) {
+            mockMvc.perform(get(url)).andExpect(status().isOk());
+        }
+    }
+}
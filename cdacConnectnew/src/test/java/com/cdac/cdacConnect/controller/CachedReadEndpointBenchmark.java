@@ -0,0 +1,14 @@
+package com.cdac.cdacConnect.controller;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CachedReadEndpointBenchmark extends AbstractReadEndpointBenchmark {
+
+    @Override
+    protected String label() {
+        return "Second-level and query cache on";
+    }
+}
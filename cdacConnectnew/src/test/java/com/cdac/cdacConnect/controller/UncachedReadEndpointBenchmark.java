@@ -0,0 +1,16 @@
+package com.cdac.cdacConnect.controller;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false" })
+@AutoConfigureMockMvc
+class UncachedReadEndpointBenchmark extends AbstractReadEndpointBenchmark {
+
+    @Override
+    protected String label() {
+        return "Second-level and query cache off";
+    }
+}
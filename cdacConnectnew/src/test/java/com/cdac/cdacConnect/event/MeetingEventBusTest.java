@@ -0,0 +1,114 @@
+package com.cdac.cdacConnect.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.cdac.cdacConnect.entity.Meeting;
+import com.cdac.cdacConnect.entity.Mentor;
+import com.cdac.cdacConnect.entity.Student;
+import com.cdac.cdacConnect.repository.MeetingRepository;
+import com.cdac.cdacConnect.repository.MentorRepository;
+import com.cdac.cdacConnect.repository.StudentRepository;
+import com.cdac.cdacConnect.service.MeetingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+class MeetingEventBusTest {
+
+    @Autowired
+    private MeetingEventBus meetingEventBus;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    private Long studentId;
+    private Long mentorId;
+
+    @BeforeEach
+    void setUp() {
+        Student student = new Student();
+        student.setEmail("stream-student@example.com");
+        studentId = studentRepository.save(student).getStudId();
+        Mentor mentor = new Mentor();
+        mentor.setEmail("stream-mentor@example.com");
+        mentorId = mentorRepository.save(mentor).getMentorId();
+    }
+
+    @Test
+    void deliversCreateAndCancelToMentorStream() throws Exception {
+        CapturingEmitter emitter = new CapturingEmitter();
+        meetingEventBus.subscribe(mentorId, emitter);
+
+        meetingService.createMeeting(new Meeting(studentId, mentorId, "Java", "Streams?"));
+        Long meetingId = meetingRepository.findByMentorId(mentorId).get(0).getMeetingId();
+        // Cancelled by the student: the bus has to look up the mentor itself
+        meetingService.cancelMeeting(meetingId, studentId, "student");
+
+        String payload = emitter.awaitEvents(2);
+        assertTrue(payload.contains("\"type\":\"CREATED\""));
+        assertTrue(payload.contains("\"status\":\"CANCELLED\""));
+        emitter.complete();
+    }
+
+    @Test
+    void otherMentorsReceiveNothing() throws Exception {
+        CapturingEmitter emitter = new CapturingEmitter();
+        meetingEventBus.subscribe(mentorId + 1000, emitter);
+        assertEquals(1, meetingEventBus.subscriberCount(mentorId + 1000));
+
+        meetingService.createMeeting(new Meeting(studentId, mentorId, "Java", "Not yours"));
+
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertEquals(0, emitter.events.size());
+        emitter.complete();
+    }
+
+    // Records "meeting" events instead of writing to an HTTP response
+    static class CapturingEmitter extends SseEmitter {
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            Set<DataWithMediaType> parts = builder.build();
+            StringBuilder text = new StringBuilder();
+            for (DataWithMediaType part : parts) {
+                Object data = part.getData();
+                text.append(data instanceof String ? data : mapper.writeValueAsString(data));
+            }
+            if (text.indexOf("event:meeting") >= 0) {
+                events.add(text.toString());
+            }
+        }
+
+        String awaitEvents(int count) throws InterruptedException {
+            for (int i = 0; i < 50 && events.size() < count; i++) {
+                TimeUnit.MILLISECONDS.sleep(50);
+            }
+            assertEquals(count, events.size());
+            return String.join("\n", events);
+        }
+    }
+}
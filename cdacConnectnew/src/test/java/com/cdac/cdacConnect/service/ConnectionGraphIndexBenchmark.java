@@ -0,0 +1,64 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.ref.Reference;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.cdac.cdacConnect.dto.ConnectionGraphStats;
+
+// Heap retained by a 1M-edge graph: 100k students with 10 mentors each over 10k mentors, about 100 students
+// per mentor. Measures used heap after GC before and after building, next to the index's own estimate.
+// Run with: mvn -Pbenchmark test -Dtest=ConnectionGraphIndexBenchmark
+class ConnectionGraphIndexBenchmark {
+
+    private static final int STUDENTS = 100_000;
+    private static final int MENTORS = 10_000;
+    private static final int MENTORS_PER_STUDENT = 10;
+
+    @Test
+    void millionEdgeFootprint() {
+        long before = usedHeapAfterGc();
+        ConnectionGraphIndex index = new ConnectionGraphIndex();
+        Random random = new Random(7);
+        for (long student = 1; student <= STUDENTS; student++) {
+            int added = 0;
+            while (added < MENTORS_PER_STUDENT) {
+                long mentor = 1 + random.nextInt(MENTORS);
+                if (!index.isApproved(student, mentor)) {
+                    index.add(student, mentor);
+                    added++;
+                }
+            }
+        }
+        long retained = usedHeapAfterGc() - before;
+        ConnectionGraphStats stats = index.stats();
+        Reference.reachabilityFence(index);
+
+        System.out.printf("%nConnectionGraphIndex, %d edges, %d students, %d mentors%n", stats.getEdges(),
+                stats.getStudents(), stats.getMentors());
+        System.out.printf("  retained heap %6.1f MB (%.1f bytes/edge), estimatedBytes %6.1f MB%n", retained / 1048576.0,
+                (double) retained / stats.getEdges(), stats.getEstimatedBytes() / 1048576.0);
+        assertEquals(1_000_000, stats.getEdges());
+        // Two longs per edge plus array headers and slot tables; boxed lists would need well over 40 bytes per edge
+        assertTrue(retained < 32L * 1024 * 1024);
+    }
+
+    // Used heap once repeated collections stop freeing anything
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            long now = runtime.totalMemory() - runtime.freeMemory();
+            if (now >= used) {
+                return now;
+            }
+            used = now;
+        }
+        return used;
+    }
+}
@@ -0,0 +1,184 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.cdac.cdacConnect.TestFixtures;
+import com.cdac.cdacConnect.dto.ConnectionGraphStats;
+import com.cdac.cdacConnect.entity.Mentor;
+import com.cdac.cdacConnect.entity.Student;
+import com.cdac.cdacConnect.entity.StudentMentorConnection;
+import com.cdac.cdacConnect.repository.MentorRepository;
+import com.cdac.cdacConnect.repository.StudentMentorConnectionRepository;
+import com.cdac.cdacConnect.repository.StudentRepository;
+
+@SpringBootTest
+class ConnectionGraphIndexTest {
+
+    @Autowired
+    private StudentMentorConnectionService connectionService;
+
+    @Autowired
+    private StudentMentorConnectionRepository connectionRepository;
+
+    @Autowired
+    private ConnectionGraphIndex graphIndex;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Student asha;
+    private Student bala;
+    private Student chitra;
+    private Mentor ravi;
+    private Mentor sunita;
+
+    @BeforeEach
+    void setUp() {
+        asha = studentRepository.save(TestFixtures.student());
+        bala = studentRepository.save(TestFixtures.student("Bala"));
+        chitra = studentRepository.save(TestFixtures.student("Chitra"));
+        ravi = mentorRepository.save(TestFixtures.mentor());
+        sunita = mentorRepository.save(TestFixtures.mentor("Sunita"));
+    }
+
+    private Long connect(Student student, Mentor mentor, String status) {
+        connectionService.createConnection(new StudentMentorConnection(student.getStudId(), student.getEmail(),
+                mentor.getMentorId(), mentor.getEmail(), mentor.getMentorName(), "Java"));
+        StudentMentorConnection connection = connectionRepository
+                .findByStudentIdAndMentorId(student.getStudId(), mentor.getMentorId()).get();
+        connectionService.updateConnectionStatus(connection.getConnectionId(), status);
+        return connection.getConnectionId();
+    }
+
+    @Test
+    void followsConnectionWrites() {
+        connect(asha, ravi, "APPROVED");
+        connect(bala, ravi, "APPROVED");
+        connect(bala, sunita, "APPROVED");
+        Long pending = connect(chitra, sunita, "PENDING");
+
+        assertTrue(connectionService.isApproved(asha.getStudId(), ravi.getMentorId()));
+        assertFalse(connectionService.isApproved(chitra.getStudId(), sunita.getMentorId()));
+        assertArrayEquals(new long[] { bala.getStudId() }, connectionService.getPeers(asha.getStudId()));
+        assertArrayEquals(new long[] { sunita.getMentorId() }, connectionService.getPeerMentors(asha.getStudId()));
+        assertArrayEquals(new long[] { bala.getStudId() },
+                connectionService.getSharedStudents(ravi.getMentorId(), sunita.getMentorId()));
+
+        connectionService.updateConnectionStatus(pending, "APPROVED");
+        assertArrayEquals(new long[] { bala.getStudId() }, connectionService.getPeers(chitra.getStudId()));
+
+        Long rejected = connectionRepository.findByStudentIdAndMentorId(bala.getStudId(), ravi.getMentorId()).get()
+                .getConnectionId();
+        connectionService.updateConnectionStatus(rejected, "REJECTED");
+        assertEquals(0, connectionService.getPeers(asha.getStudId()).length);
+
+        connectionService.deleteConnection(pending);
+        assertFalse(connectionService.isApproved(chitra.getStudId(), sunita.getMentorId()));
+    }
+
+    @Test
+    void rebuildMatchesIncrementalState() {
+        // Other tests insert rows behind the service's back; start from the table's current state
+        graphIndex.rebuild();
+        connect(asha, ravi, "APPROVED");
+        connect(bala, ravi, "APPROVED");
+        connect(chitra, sunita, "REJECTED");
+        ConnectionGraphStats before = graphIndex.stats();
+
+        graphIndex.rebuild();
+
+        assertEquals(before.getEdges(), graphIndex.stats().getEdges());
+        assertEquals(before.getStudents(), graphIndex.stats().getStudents());
+        assertArrayEquals(new long[] { asha.getStudId(), bala.getStudId() }, graphIndex.studentsOf(ravi.getMentorId()));
+        assertEquals(0, graphIndex.studentsOf(sunita.getMentorId()).length);
+    }
+
+    @Test
+    void rebuildKeepsChangesThatCommitDuringTheScan() {
+        connect(asha, ravi, "APPROVED");
+        Long rejected = connect(bala, ravi, "APPROVED");
+        connect(chitra, ravi, "APPROVED");
+        Long deleted = connectionRepository.findByStudentIdAndMentorId(asha.getStudId(), ravi.getMentorId()).get()
+                .getConnectionId();
+        // A second index whose student-side scan has read asha's row, but not stored it, when asha's connection
+        // is deleted and bala's is rejected
+        ConnectionGraphIndex index = new ConnectionGraphIndex();
+        boolean[] fired = { false };
+        ReflectionTestUtils.setField(index, "jdbcTemplate", new JdbcTemplate(jdbcTemplate.getDataSource()) {
+            @Override
+            public void query(PreparedStatementCreator creator, RowCallbackHandler handler) {
+                super.query(creator, (RowCallbackHandler) rs -> {
+                    if (!fired[0] && rs.getLong(1) == asha.getStudId()) {
+                        fired[0] = true;
+                        connectionService.deleteConnection(deleted);
+                        index.remove(asha.getStudId(), ravi.getMentorId());
+                        connectionService.updateConnectionStatus(rejected, "REJECTED");
+                        index.remove(bala.getStudId(), ravi.getMentorId());
+                    }
+                    handler.processRow(rs);
+                });
+            }
+        });
+
+        index.rebuild();
+
+        assertTrue(fired[0]);
+        assertFalse(index.isApproved(asha.getStudId(), ravi.getMentorId()));
+        assertArrayEquals(new long[] { chitra.getStudId() }, index.studentsOf(ravi.getMentorId()));
+        assertEquals(0, index.mentorsOf(bala.getStudId()).length);
+        // Same graph as a rebuild that starts after both writes
+        graphIndex.rebuild();
+        assertEquals(graphIndex.stats().getEdges(), index.stats().getEdges());
+        assertEquals(graphIndex.stats().getStudents(), index.stats().getStudents());
+    }
+
+    @Test
+    void longArrayMapAgreesWithHashMap() {
+        ConnectionGraphIndex.LongArrayMap map = new ConnectionGraphIndex.LongArrayMap();
+        Map<Long, long[]> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(5_000) - 100; // includes 0 and negative keys
+            if (random.nextInt(3) == 0) {
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                long[] value = { i };
+                map.put(key, value);
+                expected.put(key, value);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (long key = -100; key < 4_900; key++) {
+            long[] value = expected.get(key);
+            if (value == null) {
+                assertNull(map.get(key));
+            } else {
+                assertArrayEquals(value, map.get(key));
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.cdac.cdacConnect.TestFixtures;
+import com.cdac.cdacConnect.entity.Mentor;
+import com.cdac.cdacConnect.entity.Skill;
+import com.cdac.cdacConnect.entity.Student;
+import com.cdac.cdacConnect.entity.StudentMentorConnection;
+import com.cdac.cdacConnect.repository.MentorRepository;
+import com.cdac.cdacConnect.repository.SkillRepository;
+import com.cdac.cdacConnect.repository.StudentRepository;
+
+import db.migration.V10__Backfill_connection_skills;
+
+@SpringBootTest
+class ConnectionSkillTest {
+
+    @Autowired
+    private StudentMentorConnectionService connectionService;
+
+    @Autowired
+    private SkillService skillService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Student student;
+    private Mentor mentor;
+    private Skill kotlin;
+    private Skill docker;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        student = studentRepository.save(TestFixtures.student("Meera"));
+        mentor = mentorRepository.save(TestFixtures.mentor("Kiran"));
+        kotlin = skillRepository.save(new Skill(null, "Kotlin" + suffix, null));
+        docker = skillRepository.save(new Skill(null, "Docker" + suffix, null));
+    }
+
+    @Test
+    void createConnectionLinksCatalogSkills() {
+        StudentMentorConnection connection = new StudentMentorConnection(student.getStudId(), student.getEmail(),
+                mentor.getMentorId(), mentor.getEmail(), mentor.getMentorName(),
+                kotlin.getSkillName().toUpperCase() + ", Not A Skill");
+        assertEquals(HttpStatus.OK, connectionService.createConnection(connection).getStatusCode());
+
+        List<StudentMentorConnection> byKotlin = connectionService.getConnectionsBySkill(kotlin.getSkillId(), null);
+        assertEquals(1, byKotlin.size());
+        assertEquals(student.getStudId(), byKotlin.get(0).getStudentId());
+        assertEquals(List.of(student.getStudId()), connectionService.getStudentIdsBySkill(kotlin.getSkillId(), "PENDING"));
+        assertTrue(connectionService.getConnectionsBySkill(kotlin.getSkillId(), "APPROVED").isEmpty());
+        assertTrue(connectionService.getConnectionsBySkill(docker.getSkillId(), null).isEmpty());
+        assertEquals(kotlin.getSkillId(), connectionService.getSkillByName(kotlin.getSkillName().toLowerCase()).get().getSkillId());
+    }
+
+    @Test
+    void skillListedOnAConnectionCannotBeDeleted() {
+        connectionService.createConnection(new StudentMentorConnection(student.getStudId(), student.getEmail(),
+                mentor.getMentorId(), mentor.getEmail(), mentor.getMentorName(), kotlin.getSkillName()));
+
+        assertEquals(HttpStatus.CONFLICT, skillService.deleteSkill(kotlin.getSkillId()).getStatusCode());
+        assertTrue(skillRepository.existsById(kotlin.getSkillId()));
+        assertEquals(HttpStatus.OK, skillService.deleteSkill(docker.getSkillId()).getStatusCode());
+    }
+
+    @Test
+    void backfillLinksExistingConnections() throws Exception {
+        jdbcTemplate.update("INSERT INTO student_mentor_connections (student_id, student_email, mentor_id, mentor_email, "
+                + "mentor_name, status, selected_skills, connection_date) VALUES (?, ?, ?, ?, ?, 'APPROVED', ?, CURRENT_TIMESTAMP)",
+                student.getStudId(), student.getEmail(), mentor.getMentorId(), mentor.getEmail(), mentor.getMentorName(),
+                "[\"" + kotlin.getSkillName() + "\", \" " + docker.getSkillName().toLowerCase() + "\", \"Unknown\"]");
+
+        try (Connection connection = dataSource.getConnection()) {
+            assertEquals(2, V10__Backfill_connection_skills.backfill(connection));
+            // Running it again inserts nothing
+            assertEquals(0, V10__Backfill_connection_skills.backfill(connection));
+        }
+
+        assertEquals(1, connectionService.getConnectionsBySkill(kotlin.getSkillId(), "APPROVED").size());
+        assertEquals(List.of(student.getStudId()), connectionService.getStudentIdsBySkill(docker.getSkillId(), null));
+    }
+}
@@ -0,0 +1,127 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.cdac.cdacConnect.entity.Meeting;
+import com.cdac.cdacConnect.entity.StudentMentorConnection;
+import com.cdac.cdacConnect.repository.ArchivedMeetingRepository;
+import com.cdac.cdacConnect.repository.MeetingRepository;
+import com.cdac.cdacConnect.repository.StudentMentorConnectionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+class ExportServiceTest {
+
+    private static final int MEETING_COUNT = 1200;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private ArchivedMeetingRepository archivedMeetingRepository;
+
+    @Autowired
+    private MeetingLifecycleJob lifecycleJob;
+
+    @Autowired
+    private StudentMentorConnectionRepository connectionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        meetingRepository.deleteAll();
+        archivedMeetingRepository.deleteAllInBatch();
+        connectionRepository.deleteAll();
+        List<Meeting> meetings = new ArrayList<>();
+        for (int i = 0; i < MEETING_COUNT; i++) {
+            Meeting meeting = new Meeting(7L, 9L, "Java", "Question " + i);
+            meeting.setRequestDate(LocalDateTime.of(2026, 1, 1, 0, 0).plusHours(i));
+            meeting.setStatus(i % 2 == 0 ? "PENDING" : "APPROVED");
+            meetings.add(meeting);
+        }
+        meetings.get(0).setQuestion("Commas, \"quotes\"\nand new lines");
+        meetingRepository.saveAll(meetings);
+    }
+
+    @Test
+    void streamsEveryMeetingAsCsv() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.exportMeetings(ExportService.CSV, null, null, null, true, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertEquals(MEETING_COUNT, rows);
+        assertTrue(csv.startsWith("meetingId,studentId,mentorId,status,selectedSkills,question,requestDate,"));
+        assertTrue(csv.contains(",\"Commas, \"\"quotes\"\"\nand new lines\","));
+        assertEquals(MEETING_COUNT + 1, csv.split("\r\n").length);
+    }
+
+    @Test
+    void filtersByStatusAndDateAsNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LocalDateTime from = LocalDateTime.of(2026, 1, 1, 0, 0);
+        long rows = exportService.exportMeetings(ExportService.NDJSON, "APPROVED", from, from.plusHours(10), true, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(5, rows);
+        assertEquals(5, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("APPROVED", first.get("status").asText());
+        assertEquals("Question 1", first.get("question").asText());
+    }
+
+    @Test
+    void appendsArchivedMeetingsUnlessExcluded() throws Exception {
+        List<Meeting> closed = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Meeting meeting = new Meeting(7L, 9L, "Java", "Archived " + i);
+            meeting.setRequestDate(LocalDateTime.of(2025, 6, 1, 0, 0).plusDays(i));
+            meeting.setStatus("COMPLETED");
+            closed.add(meeting);
+        }
+        meetingRepository.saveAll(closed);
+        assertEquals(3, lifecycleJob.archiveClosed(LocalDateTime.of(2025, 12, 1, 0, 0)));
+
+        ByteArrayOutputStream all = new ByteArrayOutputStream();
+        ByteArrayOutputStream liveOnly = new ByteArrayOutputStream();
+        LocalDateTime from = LocalDateTime.of(2025, 6, 2, 0, 0);
+
+        assertEquals(MEETING_COUNT + 3, exportService.exportMeetings(ExportService.CSV, null, null, null, true, all));
+        assertEquals(MEETING_COUNT, exportService.exportMeetings(ExportService.CSV, null, null, null, false, liveOnly));
+        assertTrue(all.toString(StandardCharsets.UTF_8).endsWith(",COMPLETED,Java,Archived 2,2025-06-03T00:00,,\r\n"));
+
+        ByteArrayOutputStream filtered = new ByteArrayOutputStream();
+        long rows = exportService.exportMeetings(ExportService.NDJSON, "COMPLETED", from, null, true, filtered);
+        String[] lines = filtered.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, rows);
+        assertEquals("Archived 1", objectMapper.readTree(lines[0]).get("question").asText());
+    }
+
+    @Test
+    void streamsConnections() {
+        connectionRepository.save(new StudentMentorConnection(7L, "s@cdac.in", 9L, "m@cdac.in", "Mentor", "[\"Java\"]"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.exportConnections(ExportService.CSV, "PENDING", null, null, out);
+
+        assertEquals(1, rows);
+        assertTrue(out.toString(StandardCharsets.UTF_8).contains(",Mentor,PENDING,\"[\"\"Java\"\"]\","));
+    }
+}
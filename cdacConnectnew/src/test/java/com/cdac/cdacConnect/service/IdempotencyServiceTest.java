@@ -0,0 +1,150 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+class IdempotencyServiceTest {
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    private static final Map<String, Object> REQUEST = Map.of("studentId", 1, "mentorId", 2, "question", "Spring?");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AtomicInteger runs;
+
+    @BeforeEach
+    void setUp() {
+        runs = new AtomicInteger();
+    }
+
+    private ResponseEntity<String> execute(String scope, String key, Map<String, Object> request,
+            Supplier<ResponseEntity<String>> action) {
+        return idempotencyService.execute(scope, key, "student:1", request, action);
+    }
+
+    private ResponseEntity<String> create() {
+        return ResponseEntity.ok("Created with ID: " + runs.incrementAndGet());
+    }
+
+    @Test
+    void repeatsReplayTheFirstResponse() {
+        String key = "key-" + System.nanoTime();
+
+        ResponseEntity<String> first = execute("meetings", key, REQUEST, this::create);
+        ResponseEntity<String> repeat = execute("meetings", key, REQUEST, this::create);
+        execute("connections", key, REQUEST, this::create);
+
+        assertEquals(first.getBody(), repeat.getBody());
+        assertEquals(HttpStatus.OK, repeat.getStatusCode());
+        assertEquals(2, runs.get());
+
+        // Without a key every request runs
+        execute("meetings", null, REQUEST, this::create);
+        assertEquals(3, runs.get());
+    }
+
+    @Test
+    void failedRequestsReleaseTheKey() {
+        String key = "key-" + System.nanoTime();
+
+        ResponseEntity<String> failed = execute("meetings", key, REQUEST,
+                () -> ResponseEntity.badRequest().body("Student not found"));
+        ResponseEntity<String> retried = execute("meetings", key, REQUEST, this::create);
+
+        assertEquals(HttpStatus.BAD_REQUEST, failed.getStatusCode());
+        assertEquals(HttpStatus.OK, retried.getStatusCode());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void concurrentRepeatsRunOnce() throws Exception {
+        String key = "key-" + System.nanoTime();
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ResponseEntity<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return execute("meetings", key, REQUEST, this::create);
+            }));
+        }
+        start.countDown();
+        for (Future<ResponseEntity<String>> future : futures) {
+            HttpStatus status = HttpStatus.valueOf(future.get().getStatusCode().value());
+            // Repeats either replay the stored response or see the first request still running
+            assertTrue(status == HttpStatus.OK || status == HttpStatus.CONFLICT);
+        }
+        executor.shutdown();
+
+        assertEquals(1, runs.get());
+        assertEquals("Created with ID: 1", execute("meetings", key, REQUEST, this::create).getBody());
+    }
+
+    @Test
+    void aReusedKeyWithADifferentRequestIsRejected() {
+        String key = "key-" + System.nanoTime();
+        execute("meetings", key, REQUEST, this::create);
+
+        ResponseEntity<String> otherBody = execute("meetings", key, Map.of("studentId", 1, "mentorId", 3), this::create);
+        ResponseEntity<String> otherCaller = idempotencyService.execute("meetings", key, "student:9", REQUEST, this::create);
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, otherBody.getStatusCode());
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, otherCaller.getStatusCode());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void anErrorReleasesTheKey() {
+        String key = "key-" + System.nanoTime();
+
+        assertThrows(OutOfMemoryError.class, () -> execute("meetings", key, REQUEST, () -> {
+            throw new OutOfMemoryError("simulated");
+        }));
+
+        assertEquals(HttpStatus.OK, execute("meetings", key, REQUEST, this::create).getStatusCode());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void anAbandonedReservationIsReclaimedOnceItsLeaseRunsOut() {
+        String live = "key-" + System.nanoTime();
+        String abandoned = "key-" + System.nanoTime();
+        // Reservations left by a node that died mid-request: one still inside its lease, one past it
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO idempotency_keys (scope, idempotency_key, created_at, lease_until) VALUES (?, ?, ?, ?)",
+                "meetings", live, Timestamp.valueOf(now), Timestamp.valueOf(now.plusMinutes(1)));
+        jdbcTemplate.update("INSERT INTO idempotency_keys (scope, idempotency_key, created_at, lease_until) VALUES (?, ?, ?, ?)",
+                "meetings", abandoned, Timestamp.valueOf(now.minusMinutes(5)), Timestamp.valueOf(now.minusMinutes(4)));
+
+        assertEquals(HttpStatus.CONFLICT, execute("meetings", live, REQUEST, this::create).getStatusCode());
+        assertEquals(HttpStatus.OK, execute("meetings", abandoned, REQUEST, this::create).getStatusCode());
+        assertEquals("Created with ID: 1", execute("meetings", abandoned, REQUEST, this::create).getBody());
+        assertEquals(1, runs.get());
+    }
+}
@@ -0,0 +1,78 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.cdac.cdacConnect.entity.Meeting;
+import com.cdac.cdacConnect.entity.MeetingStatus;
+import com.cdac.cdacConnect.entity.Mentor;
+import com.cdac.cdacConnect.entity.Student;
+import com.cdac.cdacConnect.repository.MeetingRepository;
+import com.cdac.cdacConnect.repository.MentorRepository;
+import com.cdac.cdacConnect.repository.StudentRepository;
+
+@SpringBootTest
+class MeetingCountsTest {
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    private Long studentId;
+    private Long mentorId;
+
+    @BeforeEach
+    void setUp() {
+        Student student = new Student();
+        student.setEmail("counts-student@example.com");
+        studentId = studentRepository.save(student).getStudId();
+        Mentor mentor = new Mentor();
+        mentor.setEmail("counts-mentor@example.com");
+        mentorId = mentorRepository.save(mentor).getMentorId();
+    }
+
+    @Test
+    void countersFollowEveryWrite() {
+        for (int i = 0; i < 5; i++) {
+            meetingService.createMeeting(new Meeting(studentId, mentorId, "Java", "Q" + i));
+        }
+        List<Meeting> meetings = meetingRepository.findByMentorId(mentorId);
+
+        meetingService.updateMeetingStatus(meetings.get(0).getMeetingId(), "APPROVED", mentorId);
+        meetingService.updateMeetingStatus(meetings.get(0).getMeetingId(), "COMPLETED", null);
+        meetingService.bulkUpdateMeetingStatus(
+                List.of(meetings.get(1).getMeetingId(), meetings.get(2).getMeetingId()), "APPROVED", mentorId);
+        meetingService.cancelMeeting(meetings.get(1).getMeetingId(), studentId, "student");
+        meetingService.deleteMeeting(meetings.get(4).getMeetingId());
+
+        Map<String, Long> mentorCounts = meetingService.getMentorMeetingCounts(mentorId);
+        assertEquals(1L, mentorCounts.get("PENDING"));
+        assertEquals(1L, mentorCounts.get("APPROVED"));
+        assertEquals(1L, mentorCounts.get("COMPLETED"));
+        assertEquals(1L, mentorCounts.get("CANCELLED"));
+        assertEquals(0L, mentorCounts.get("REJECTED"));
+        assertEquals(mentorCounts, meetingService.getStudentMeetingCounts(studentId));
+    }
+
+    @Test
+    void unknownOwnerHasZeroCounts() {
+        Map<String, Long> counts = meetingService.getMentorMeetingCounts(-1L);
+        assertEquals(MeetingStatus.values().length, counts.size());
+        counts.values().forEach(count -> assertEquals(0L, count));
+    }
+}
@@ -0,0 +1,84 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import com.cdac.cdacConnect.entity.Meeting;
+import com.cdac.cdacConnect.repository.ArchivedMeetingRepository;
+import com.cdac.cdacConnect.repository.MeetingRepository;
+
+@SpringBootTest
+@TestPropertySource(properties = "meetings.lifecycle.chunk-size=3")
+class MeetingLifecycleJobTest {
+
+    private static final long STUDENT_ID = 41L;
+    private static final long MENTOR_ID = 42L;
+
+    @Autowired
+    private MeetingLifecycleJob lifecycleJob;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private ArchivedMeetingRepository archivedMeetingRepository;
+
+    @BeforeEach
+    void setUp() {
+        meetingRepository.deleteAll();
+        archivedMeetingRepository.deleteAll();
+    }
+
+    private Meeting save(String status, int daysAgo) {
+        Meeting meeting = new Meeting(STUDENT_ID, MENTOR_ID, "Java", "Q");
+        meeting.setStatus(status);
+        meeting.setRequestDate(LocalDateTime.now().minusDays(daysAgo));
+        return meetingRepository.save(meeting);
+    }
+
+    @Test
+    void expiresOnlyStalePendingMeetingsAcrossChunks() {
+        for (int i = 0; i < 7; i++) {
+            save("PENDING", 30);
+        }
+        Meeting fresh = save("PENDING", 1);
+        Meeting approved = save("APPROVED", 30);
+
+        int expired = lifecycleJob.expireStalePending(LocalDateTime.now().minusDays(14));
+
+        assertEquals(7, expired);
+        assertEquals(7, meetingRepository.findByStatus("EXPIRED").size());
+        assertEquals("PENDING", meetingRepository.findById(fresh.getMeetingId()).get().getStatus());
+        assertEquals("APPROVED", meetingRepository.findById(approved.getMeetingId()).get().getStatus());
+    }
+
+    @Test
+    void archivesOldClosedMeetingsAndHistoryCanIncludeThem() {
+        save("COMPLETED", 120);
+        save("CANCELLED", 120);
+        save("REJECTED", 120);
+        save("EXPIRED", 120);
+        save("APPROVED", 120);
+        save("COMPLETED", 10);
+
+        int archived = lifecycleJob.archiveClosed(LocalDateTime.now().minusDays(90));
+
+        assertEquals(4, archived);
+        assertEquals(2, meetingRepository.findByMentorId(MENTOR_ID).size());
+        assertEquals(4, archivedMeetingRepository.count());
+        List<Meeting> history = meetingService.getMeetingsByMentorId(MENTOR_ID, true);
+        assertEquals(6, history.size());
+        assertEquals(2, meetingService.getMeetingsByStudentId(STUDENT_ID, false).size());
+    }
+}
@@ -0,0 +1,143 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.cdac.cdacConnect.TestFixtures;
+import com.cdac.cdacConnect.dto.MeetingSearchResult;
+import com.cdac.cdacConnect.entity.Meeting;
+import com.cdac.cdacConnect.repository.ArchivedMeetingRepository;
+import com.cdac.cdacConnect.repository.MeetingRepository;
+import com.cdac.cdacConnect.repository.MentorRepository;
+import com.cdac.cdacConnect.repository.StudentRepository;
+
+@SpringBootTest
+class MeetingSearchTest {
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private ArchivedMeetingRepository archivedMeetingRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    private Long studentId;
+    private Long mentorId;
+    private Long otherMentorId;
+
+    @BeforeEach
+    void setUp() {
+        meetingRepository.deleteAll();
+        meetingService.rebuildSearchIndex();
+        studentId = studentRepository.save(TestFixtures.student()).getStudId();
+        mentorId = mentorRepository.save(TestFixtures.mentor()).getMentorId();
+        otherMentorId = mentorRepository.save(TestFixtures.mentor("Meera")).getMentorId();
+    }
+
+    private Long create(Long mentor, String skills, String question) {
+        String body = meetingService.createMeeting(new Meeting(studentId, mentor, skills, question)).getBody();
+        return Long.valueOf(body.substring(body.lastIndexOf(' ') + 1));
+    }
+
+    private List<Long> ids(MeetingSearchResult result) {
+        return result.getItems().stream().map(item -> item.getMeeting().getMeetingId()).toList();
+    }
+
+    @Test
+    void ranksAndFiltersNewMeetings() {
+        Long springOnly = create(mentorId, "Java", "How do I configure Spring Security?");
+        Long springTwice = create(mentorId, "Spring Boot", "Spring Boot transactions across Spring beans");
+        create(mentorId, "React", "State management with hooks");
+        Long otherMentor = create(otherMentorId, "Spring", "Spring question for another mentor");
+
+        MeetingSearchResult result = meetingService.searchMeetings("spring", mentorId, 0, 10);
+        assertEquals(2, result.getTotal());
+        assertEquals(List.of(springTwice, springOnly), ids(result));
+
+        assertTrue(ids(meetingService.searchMeetings("Spring", null, 0, 10)).contains(otherMentor));
+        assertEquals(0, meetingService.searchMeetings("kubernetes", null, 0, 10).getTotal());
+    }
+
+    @Test
+    void pagesThroughResults() {
+        for (int i = 0; i < 5; i++) {
+            create(mentorId, "C++", "Pointers question " + i);
+        }
+
+        MeetingSearchResult first = meetingService.searchMeetings("c++ pointers", mentorId, 0, 2);
+        MeetingSearchResult last = meetingService.searchMeetings("c++ pointers", mentorId, 4, 2);
+
+        assertEquals(5, first.getTotal());
+        assertEquals(2, first.getItems().size());
+        assertEquals(1, last.getItems().size());
+    }
+
+    @Test
+    void offsetPastTheEndGivesAnEmptyPage() {
+        create(mentorId, "Rust", "Borrow checker errors");
+
+        MeetingSearchResult result = meetingService.searchMeetings("rust", mentorId, Integer.MAX_VALUE - 1, 10);
+
+        assertEquals(1, result.getTotal());
+        assertTrue(result.getItems().isEmpty());
+    }
+
+    @Test
+    void rebuildPicksUpRowsWrittenElsewhere() {
+        Long meetingId = meetingRepository.save(new Meeting(studentId, mentorId, "Python", "Django migrations")).getMeetingId();
+        assertEquals(0, meetingService.searchMeetings("django", mentorId, 0, 10).getTotal());
+
+        meetingService.rebuildSearchIndex();
+
+        assertEquals(List.of(meetingId), ids(meetingService.searchMeetings("django", mentorId, 0, 10)));
+        meetingService.deleteMeeting(meetingId);
+        assertEquals(0, meetingService.searchMeetings("django", mentorId, 0, 10).getTotal());
+    }
+
+    @Test
+    void rebuildKeepsDeletesThatCommitDuringTheScan() {
+        Long deleted = create(mentorId, "Go", "Goroutines leaking");
+        Long kept = create(mentorId, "Go", "Go channels");
+        // A second index whose first chunk has been read, but not yet indexed, when one of its rows is deleted
+        // and a new meeting is created
+        MeetingSearchIndex index = new MeetingSearchIndex();
+        Long[] added = new Long[1];
+        MeetingRepository repository = (MeetingRepository) Proxy.newProxyInstance(MeetingRepository.class.getClassLoader(),
+                new Class<?>[] { MeetingRepository.class }, (proxy, method, args) -> {
+                    Object result = method.invoke(meetingRepository, args);
+                    if (method.getName().equals("findByMeetingIdGreaterThanOrderByMeetingIdAsc") && added[0] == null) {
+                        meetingService.deleteMeeting(deleted);
+                        index.removeAfterCommit(deleted);
+                        Meeting meeting = meetingRepository.save(new Meeting(studentId, mentorId, "Go", "Go generics"));
+                        index.addAfterCommit(meeting);
+                        added[0] = meeting.getMeetingId();
+                    }
+                    return result;
+                });
+        ReflectionTestUtils.setField(index, "meetingRepository", repository);
+        ReflectionTestUtils.setField(index, "archivedMeetingRepository", archivedMeetingRepository);
+
+        index.rebuild();
+
+        List<Long> hits = index.search("go", mentorId).stream().map(MeetingSearchIndex.Hit::getMeetingId).toList();
+        assertEquals(2, hits.size());
+        assertTrue(hits.containsAll(List.of(kept, added[0])));
+    }
+}
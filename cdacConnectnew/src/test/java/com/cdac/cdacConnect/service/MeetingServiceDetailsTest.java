@@ -0,0 +1,137 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.cdac.cdacConnect.dto.MeetingDetails;
+import com.cdac.cdacConnect.dto.MeetingWithMentor;
+import com.cdac.cdacConnect.dto.MeetingWithStudent;
+import com.cdac.cdacConnect.entity.Meeting;
+import com.cdac.cdacConnect.entity.Mentor;
+import com.cdac.cdacConnect.entity.Student;
+import com.cdac.cdacConnect.repository.MeetingRepository;
+import com.cdac.cdacConnect.repository.MentorRepository;
+import com.cdac.cdacConnect.repository.StudentRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class MeetingServiceDetailsTest {
+
+    private static final int MEETING_COUNT = 25;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Mentor mentor;
+    private Student student;
+    private Long firstMeetingId;
+
+    @BeforeEach
+    void setUp() {
+        meetingRepository.deleteAll();
+        studentRepository.deleteAll();
+        mentorRepository.deleteAll();
+
+        mentor = new Mentor();
+        mentor.setMentorName("Mentor");
+        mentor.setEmail("mentor@example.com");
+        mentor = mentorRepository.save(mentor);
+
+        Mentor otherMentor = new Mentor();
+        otherMentor.setMentorName("Other Mentor");
+        otherMentor.setEmail("other@example.com");
+        otherMentor = mentorRepository.save(otherMentor);
+
+        student = new Student();
+        student.setStudName("Student");
+        student.setEmail("student@example.com");
+        student = studentRepository.save(student);
+
+        for (int i = 0; i < MEETING_COUNT; i++) {
+            Student requester = new Student();
+            requester.setStudName("Student " + i);
+            requester.setEmail("student" + i + "@example.com");
+            requester = studentRepository.save(requester);
+
+            Meeting meeting = meetingRepository.save(new Meeting(requester.getStudId(), mentor.getMentorId(), "Java", "Q" + i));
+            if (firstMeetingId == null) {
+                firstMeetingId = meeting.getMeetingId();
+            }
+            Long mentorId = i % 2 == 0 ? mentor.getMentorId() : otherMentor.getMentorId();
+            meetingRepository.save(new Meeting(student.getStudId(), mentorId, "Spring", "S" + i));
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void mentorMeetingsWithDetailsUsesSingleQuery() {
+        ResponseEntity<?> response = meetingService.getMentorMeetingsWithDetails(mentor.getMentorId());
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        List<MeetingWithStudent> meetings = (List<MeetingWithStudent>) response.getBody();
+        assertEquals(MEETING_COUNT + (MEETING_COUNT + 1) / 2, meetings.size());
+        assertNotNull(meetings.get(0).getStudent().getStudName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void studentMeetingsWithDetailsUsesSingleQuery() {
+        ResponseEntity<?> response = meetingService.getStudentMeetingsWithDetails(student.getStudId());
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        List<MeetingWithMentor> meetings = (List<MeetingWithMentor>) response.getBody();
+        assertEquals(MEETING_COUNT, meetings.size());
+        assertNotNull(meetings.get(0).getMentor().getMentorName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void meetingWithDetailsUsesSingleQuery() {
+        ResponseEntity<?> response = meetingService.getMeetingWithDetails(firstMeetingId);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        MeetingDetails details = (MeetingDetails) response.getBody();
+        assertEquals("Mentor", details.getMentor().getMentorName());
+        assertEquals("Student 0", details.getStudent().getStudName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void meetingWithDetailsReportsMissingStudent() {
+        Meeting orphan = meetingRepository.save(new Meeting(-1L, mentor.getMentorId(), "Java", "Orphan"));
+
+        ResponseEntity<?> response = meetingService.getMeetingWithDetails(orphan.getMeetingId());
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Student not found", response.getBody());
+    }
+}
@@ -0,0 +1,73 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.cdac.cdacConnect.dto.CursorPage;
+import com.cdac.cdacConnect.entity.Meeting;
+import com.cdac.cdacConnect.repository.MeetingRepository;
+
+@SpringBootTest
+class MeetingServicePaginationTest {
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @BeforeEach
+    void setUp() {
+        meetingRepository.deleteAll();
+        for (int i = 0; i < 23; i++) {
+            Meeting meeting = new Meeting(1L, 1L, "Java", "Q" + i);
+            meeting.setStatus(i % 3 == 0 ? "APPROVED" : "PENDING");
+            meetingRepository.save(meeting);
+        }
+    }
+
+    @Test
+    void walksAllMeetingsWithCursor() {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<Meeting> page = meetingService.getMeetingsPage(CursorPage.decode(cursor), 5);
+            page.getItems().forEach(m -> seen.add(m.getMeetingId()));
+            cursor = page.getNext();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(23, seen.size());
+        assertEquals(5, pages);
+        for (int i = 1; i < seen.size(); i++) {
+            assertTrue(seen.get(i - 1) < seen.get(i));
+        }
+    }
+
+    @Test
+    void pagesFilterByStatus() {
+        CursorPage<Meeting> first = meetingService.getMeetingsByStatusPage("APPROVED", 0L, 5);
+        CursorPage<Meeting> second = meetingService.getMeetingsByStatusPage("APPROVED", CursorPage.decode(first.getNext()), 5);
+
+        assertEquals(5, first.getItems().size());
+        assertEquals(3, second.getItems().size());
+        assertNull(second.getNext());
+        assertTrue(second.getItems().stream().allMatch(m -> "APPROVED".equals(m.getStatus())));
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> CursorPage.decode("not-a-cursor"));
+    }
+}
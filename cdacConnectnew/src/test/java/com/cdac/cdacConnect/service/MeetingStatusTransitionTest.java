@@ -0,0 +1,141 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+
+import com.cdac.cdacConnect.dto.BulkStatusResult;
+import com.cdac.cdacConnect.entity.Meeting;
+import com.cdac.cdacConnect.repository.MeetingRepository;
+
+@SpringBootTest
+class MeetingStatusTransitionTest {
+
+    private static final long STUDENT_ID = 7L;
+    private static final long MENTOR_ID = 9L;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    private Long meetingId;
+
+    @BeforeEach
+    void setUp() {
+        meetingRepository.deleteAll();
+        meetingId = meetingRepository.save(new Meeting(STUDENT_ID, MENTOR_ID, "Java", "Q")).getMeetingId();
+    }
+
+    @Test
+    void followsStateMachine() {
+        assertEquals(HttpStatus.CONFLICT, meetingService.updateMeetingStatus(meetingId, "COMPLETED", null).getStatusCode());
+        assertEquals(HttpStatus.OK, meetingService.updateMeetingStatus(meetingId, "APPROVED", MENTOR_ID).getStatusCode());
+        assertEquals(HttpStatus.CONFLICT, meetingService.updateMeetingStatus(meetingId, "REJECTED", MENTOR_ID).getStatusCode());
+        assertEquals(HttpStatus.OK, meetingService.updateMeetingStatus(meetingId, "COMPLETED", null).getStatusCode());
+        assertEquals(HttpStatus.CONFLICT, meetingService.cancelMeeting(meetingId, STUDENT_ID, "student").getStatusCode());
+        assertEquals("COMPLETED", meetingRepository.findById(meetingId).get().getStatus());
+    }
+
+    @Test
+    void rejectsUnknownStatusAndForeignOwner() {
+        assertEquals(HttpStatus.BAD_REQUEST, meetingService.updateMeetingStatus(meetingId, "DONE", null).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, meetingService.updateMeetingStatus(meetingId, "APPROVED", MENTOR_ID + 1).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, meetingService.cancelMeeting(meetingId, STUDENT_ID + 1, "student").getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, meetingService.cancelMeeting(-1L, STUDENT_ID, "student").getStatusCode());
+        assertEquals("PENDING", meetingRepository.findById(meetingId).get().getStatus());
+    }
+
+    @Test
+    void expiredIsLeftToTheLifecycleJob() {
+        assertEquals(HttpStatus.BAD_REQUEST, meetingService.updateMeetingStatus(meetingId, "expired", MENTOR_ID).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, meetingService.updateMeetingStatus(meetingId, "EXPIRED", null).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST,
+                meetingService.bulkUpdateMeetingStatus(List.of(meetingId), "EXPIRED", MENTOR_ID).getStatusCode());
+        assertEquals("PENDING", meetingRepository.findById(meetingId).get().getStatus());
+    }
+
+    @Test
+    void bulkUpdateReportsPerMeetingOutcomes() {
+        Long second = meetingRepository.save(new Meeting(STUDENT_ID, MENTOR_ID, "Java", "Q2")).getMeetingId();
+        Long foreign = meetingRepository.save(new Meeting(STUDENT_ID, MENTOR_ID + 1, "Java", "Q3")).getMeetingId();
+        Meeting closed = new Meeting(STUDENT_ID, MENTOR_ID, "Java", "Q4");
+        closed.setStatus("REJECTED");
+        Long rejected = meetingRepository.save(closed).getMeetingId();
+
+        ResponseEntity<?> response = meetingService.bulkUpdateMeetingStatus(
+                List.of(meetingId, second, foreign, rejected, -1L), "APPROVED", MENTOR_ID);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        BulkStatusResult result = (BulkStatusResult) response.getBody();
+        assertEquals(2, result.getUpdated());
+        assertEquals(List.of(BulkStatusResult.UPDATED, BulkStatusResult.UPDATED, BulkStatusResult.NOT_OWNER,
+                        BulkStatusResult.CONFLICT, BulkStatusResult.NOT_FOUND),
+                result.getResults().stream().map(BulkStatusResult.Outcome::getOutcome).toList());
+        assertEquals("APPROVED", meetingRepository.findById(second).get().getStatus());
+        assertEquals("PENDING", meetingRepository.findById(foreign).get().getStatus());
+    }
+
+    @Test
+    void concurrentTransitionsHaveExactlyOneWinner() throws Exception {
+        int threads = 32;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ResponseEntity<String>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                final int n = i;
+                Callable<ResponseEntity<String>> task = () -> {
+                    start.await();
+                    switch (n % 3) {
+                        case 0:
+                            return meetingService.updateMeetingStatus(meetingId, "APPROVED", MENTOR_ID);
+                        case 1:
+                            return meetingService.updateMeetingStatus(meetingId, "REJECTED", MENTOR_ID);
+                        default:
+                            return meetingService.cancelMeeting(meetingId, STUDENT_ID, "student");
+                    }
+                };
+                results.add(pool.submit(task));
+            }
+            start.countDown();
+
+            int ok = 0;
+            int conflict = 0;
+            for (Future<ResponseEntity<String>> result : results) {
+                HttpStatusCode status = result.get().getStatusCode();
+                if (status == HttpStatus.OK) {
+                    ok++;
+                } else if (status == HttpStatus.CONFLICT) {
+                    conflict++;
+                }
+            }
+
+            String finalStatus = meetingRepository.findById(meetingId).get().getStatus();
+            // An APPROVED winner may still be cancelled afterwards; every other first transition is terminal
+            if ("CANCELLED".equals(finalStatus) && ok == 2) {
+                assertEquals(threads - 2, conflict);
+            } else {
+                assertEquals(1, ok);
+                assertEquals(threads - 1, conflict);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
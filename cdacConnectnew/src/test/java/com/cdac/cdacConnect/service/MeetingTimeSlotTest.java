@@ -0,0 +1,188 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+
+import com.cdac.cdacConnect.TestFixtures;
+import com.cdac.cdacConnect.dto.BulkStatusResult;
+import com.cdac.cdacConnect.entity.Meeting;
+import com.cdac.cdacConnect.repository.MeetingRepository;
+import com.cdac.cdacConnect.repository.MentorRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class MeetingTimeSlotTest {
+
+    private static final long STUDENT_ID = 7L;
+    private static final long MENTOR_ID = 9L;
+    private static final LocalDateTime NINE = LocalDateTime.of(2026, 11, 2, 9, 0);
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private MentorScheduleIndex mentorScheduleIndex;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        meetingRepository.deleteAll();
+        // deleteAll bypasses the service, so the cached schedule is dropped too
+        mentorScheduleIndex.invalidate(MENTOR_ID);
+    }
+
+    private Long slotMeeting(int startHour, int endHour) {
+        Meeting meeting = new Meeting(STUDENT_ID, MENTOR_ID, "Java", "Q");
+        meeting.setScheduledStart(NINE.withHour(startHour));
+        meeting.setScheduledEnd(NINE.withHour(endHour));
+        return meetingRepository.save(meeting).getMeetingId();
+    }
+
+    @Test
+    void rejectsOverlappingApproval() {
+        Long first = slotMeeting(9, 11);
+        Long overlapping = slotMeeting(10, 12);
+        Long adjacent = slotMeeting(11, 12);
+
+        assertEquals(HttpStatus.OK, meetingService.updateMeetingStatus(first, "APPROVED", MENTOR_ID).getStatusCode());
+        assertEquals(HttpStatus.CONFLICT, meetingService.updateMeetingStatus(overlapping, "APPROVED", MENTOR_ID).getStatusCode());
+        assertEquals(HttpStatus.OK, meetingService.updateMeetingStatus(adjacent, "APPROVED", MENTOR_ID).getStatusCode());
+        assertEquals("PENDING", meetingRepository.findById(overlapping).get().getStatus());
+
+        assertFalse(meetingService.isMentorAvailable(MENTOR_ID, NINE.withHour(10), NINE.withHour(10).plusMinutes(30)));
+        assertTrue(meetingService.isMentorAvailable(MENTOR_ID, NINE.withHour(12), NINE.withHour(13)));
+    }
+
+    @Test
+    void indexClashIsRejectedWithoutQueryingTheDatabase() {
+        Long first = slotMeeting(9, 11);
+        Long overlapping = slotMeeting(10, 12);
+        meetingService.updateMeetingStatus(first, "APPROVED", MENTOR_ID);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertEquals(HttpStatus.CONFLICT, meetingService.updateMeetingStatus(overlapping, "APPROVED", MENTOR_ID).getStatusCode());
+
+        assertTrue(Arrays.stream(statistics.getQueries()).noneMatch(query -> query.contains("m.meetingId <> :meetingId")),
+                Arrays.toString(statistics.getQueries()));
+    }
+
+    @Test
+    void databaseCatchesApprovalsTheIndexMissed() {
+        Long pending = slotMeeting(10, 12);
+        assertTrue(meetingService.isMentorAvailable(MENTOR_ID, NINE.withHour(9), NINE.withHour(11))); // loads the index
+        // Approved behind this node's back, as another node would
+        Meeting elsewhere = meetingRepository.findById(slotMeeting(9, 11)).get();
+        elsewhere.setStatus("APPROVED");
+        meetingRepository.save(elsewhere);
+
+        assertEquals(HttpStatus.CONFLICT, meetingService.updateMeetingStatus(pending, "APPROVED", MENTOR_ID).getStatusCode());
+        assertFalse(meetingService.isMentorAvailable(MENTOR_ID, NINE.withHour(9), NINE.withHour(10)));
+    }
+
+    @Test
+    void staleIndexClashClearsOnRetry() {
+        Long first = slotMeeting(9, 11);
+        Long overlapping = slotMeeting(10, 12);
+        meetingService.updateMeetingStatus(first, "APPROVED", MENTOR_ID);
+        // Freed behind this node's back, as another node would
+        meetingRepository.deleteById(first);
+
+        assertEquals(HttpStatus.CONFLICT, meetingService.updateMeetingStatus(overlapping, "APPROVED", MENTOR_ID).getStatusCode());
+        assertEquals(HttpStatus.OK, meetingService.updateMeetingStatus(overlapping, "APPROVED", MENTOR_ID).getStatusCode());
+    }
+
+    @Test
+    void freesSlotWhenApprovedMeetingIsCancelled() {
+        Long first = slotMeeting(9, 11);
+        Long second = slotMeeting(10, 12);
+
+        meetingService.updateMeetingStatus(first, "APPROVED", MENTOR_ID);
+        assertEquals(HttpStatus.OK, meetingService.cancelMeeting(first, STUDENT_ID, "student").getStatusCode());
+
+        assertEquals(HttpStatus.OK, meetingService.updateMeetingStatus(second, "APPROVED", MENTOR_ID).getStatusCode());
+    }
+
+    @Test
+    void bulkApprovalDoesNotDoubleBookWithinBatch() {
+        Long first = slotMeeting(9, 10);
+        Long clash = slotMeeting(9, 10);
+        Long later = slotMeeting(14, 15);
+
+        ResponseEntity<?> response = meetingService.bulkUpdateMeetingStatus(
+                List.of(first, clash, later), "APPROVED", MENTOR_ID);
+
+        BulkStatusResult result = (BulkStatusResult) response.getBody();
+        assertEquals(List.of(BulkStatusResult.UPDATED, BulkStatusResult.SLOT_CONFLICT, BulkStatusResult.UPDATED),
+                result.getResults().stream().map(BulkStatusResult.Outcome::getOutcome).toList());
+        assertEquals("PENDING", meetingRepository.findById(clash).get().getStatus());
+    }
+
+    @Test
+    void concurrentOverlappingApprovalsBookOnce() throws Exception {
+        // A real mentor row, so both approvals queue on its lock
+        Long mentorId = mentorRepository.save(TestFixtures.mentor()).getMentorId();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Meeting meeting = new Meeting(STUDENT_ID, mentorId, "Java", "Q" + i);
+            meeting.setScheduledStart(NINE.withHour(9 + i));
+            meeting.setScheduledEnd(NINE.withHour(11 + i));
+            ids.add(meetingRepository.save(meeting).getMeetingId());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ResponseEntity<String>>> futures = new ArrayList<>();
+        for (Long id : ids) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return meetingService.updateMeetingStatus(id, "APPROVED", mentorId);
+            }));
+        }
+        start.countDown();
+        List<HttpStatusCode> statuses = new ArrayList<>();
+        for (Future<ResponseEntity<String>> future : futures) {
+            statuses.add(future.get().getStatusCode());
+        }
+        executor.shutdown();
+
+        assertEquals(1, statuses.stream().filter(HttpStatus.OK::equals).count(), statuses.toString());
+        assertEquals(1, statuses.stream().filter(HttpStatus.CONFLICT::equals).count(), statuses.toString());
+        assertEquals(1, meetingRepository.findAllById(ids).stream().filter(m -> "APPROVED".equals(m.getStatus())).count());
+    }
+
+    @Test
+    void rejectsIncompleteSlotOnCreate() {
+        Meeting meeting = new Meeting(STUDENT_ID, MENTOR_ID, "Java", "Q");
+        meeting.setScheduledStart(NINE);
+        assertEquals(HttpStatus.BAD_REQUEST, meetingService.createMeeting(meeting).getStatusCode());
+    }
+}
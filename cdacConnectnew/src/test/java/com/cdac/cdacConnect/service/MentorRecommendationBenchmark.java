@@ -0,0 +1,163 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import com.cdac.cdacConnect.TestFixtures;
+import com.cdac.cdacConnect.dto.MentorRecommendation;
+import com.cdac.cdacConnect.entity.Mentor;
+import com.cdac.cdacConnect.entity.Student;
+import com.cdac.cdacConnect.repository.StudentRepository;
+
+// recommend() over 20k mentors with 4 skills each, per-mentor PENDING loads and a student with approved
+// mentors and peers, so every path of the scoring loop is exercised. Reports per-call latency percentiles.
+// Run with: mvn -Pbenchmark test -Dtest=MentorRecommendationBenchmark
+@SpringBootTest
+@TestPropertySource(properties = "mentors.recommendations.snapshot-ttl-seconds=60")
+class MentorRecommendationBenchmark {
+
+    private static final int MENTORS = 20_000;
+    private static final int SKILLS = 500;
+    private static final int SKILLS_PER_MENTOR = 4;
+    private static final int PEERS = 50;
+    private static final int MENTORS_PER_STUDENT = 20;
+    private static final int WARMUP_CALLS = 2_000;
+    private static final int MEASURED_CALLS = 2_000;
+
+    @Autowired
+    private MentorRecommendationService recommendationService;
+
+    @Autowired
+    private MentorSkillIndex mentorSkillIndex;
+
+    @Autowired
+    private ConnectionGraphIndex connectionGraphIndex;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void recommendOverTwentyThousandMentors() {
+        Random random = new Random(19);
+        String prefix = "Rb" + System.nanoTime() + "-";
+        List<String> skills = new ArrayList<>();
+        for (int i = 0; i < SKILLS; i++) {
+            skills.add(prefix + i);
+        }
+        long[] mentorIds = insertMentors(random);
+        insertSkillLinks(mentorIds, skills, random);
+        Student student = studentRepository.save(TestFixtures.student());
+        connect(student, mentorIds, random);
+        mentorSkillIndex.rebuild();
+        connectionGraphIndex.rebuild();
+
+        long first = System.nanoTime();
+        assertFalse(recommendationService.recommend(student.getStudId(), List.of(skills.get(0)), 10).isEmpty());
+        double firstMicros = (System.nanoTime() - first) / 1_000.0;
+
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            call(student, skills, random);
+        }
+        long[] nanos = new long[MEASURED_CALLS];
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            long start = System.nanoTime();
+            call(student, skills, random);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+
+        System.out.printf("%nMentorRecommendationService.recommend, %d mentors, %d calls, %d cores%n", mentorIds.length,
+                MEASURED_CALLS, Runtime.getRuntime().availableProcessors());
+        System.out.printf("  first call (loads snapshot) %8.1f us%n", firstMicros);
+        System.out.printf("  p50 %8.1f us  p90 %8.1f us  p99 %8.1f us  max %8.1f us%n", percentile(nanos, 50),
+                percentile(nanos, 90), percentile(nanos, 99), nanos[nanos.length - 1] / 1_000.0);
+    }
+
+    // 1 to 3 requested skills, or none one time in ten
+    private void call(Student student, List<String> skills, Random random) {
+        int count = random.nextInt(10) == 0 ? 0 : 1 + random.nextInt(3);
+        List<String> requested = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            requested.add(skills.get(random.nextInt(skills.size())));
+        }
+        List<MentorRecommendation> recommendations = recommendationService.recommend(student.getStudId(), requested, 10);
+        assertTrue(recommendations.size() <= 10);
+    }
+
+    private long[] insertMentors(Random random) {
+        Long before = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(mentor_id), 0) FROM mentor", Long.class);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < MENTORS; i++) {
+            Mentor mentor = TestFixtures.mentor("Mentor " + i);
+            rows.add(new Object[] { mentor.getMentorName(), mentor.getEmail(), mentor.getPhone(), mentor.getPassword() });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO mentor (mentor_name, email, phone, password) VALUES (?, ?, ?, ?)", rows);
+        long[] ids = jdbcTemplate.queryForList("SELECT mentor_id FROM mentor WHERE mentor_id > ? ORDER BY mentor_id",
+                Long.class, before).stream().mapToLong(Long::longValue).toArray();
+
+        List<Object[]> counters = new ArrayList<>();
+        for (long id : ids) {
+            counters.add(new Object[] { MeetingCounterService.MENTOR, id, (long) random.nextInt(8) });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO meeting_counters (owner_type, owner_id, status, meeting_count) "
+                + "VALUES (?, ?, 'PENDING', ?)", counters);
+        return ids;
+    }
+
+    private void insertSkillLinks(long[] mentorIds, List<String> skills, Random random) {
+        jdbcTemplate.batchUpdate("INSERT INTO skill (skill_name) VALUES (?)", skills, skills.size(),
+                (statement, name) -> statement.setString(1, name));
+        long[] skillIds = jdbcTemplate.queryForList("SELECT skill_id FROM skill WHERE skill_name LIKE ? ORDER BY skill_id",
+                Long.class, skills.get(0).substring(0, skills.get(0).length() - 1) + "%")
+                .stream().mapToLong(Long::longValue).toArray();
+        List<Object[]> links = new ArrayList<>();
+        for (long mentorId : mentorIds) {
+            int offset = random.nextInt(skillIds.length);
+            for (int i = 0; i < SKILLS_PER_MENTOR; i++) {
+                // A fixed stride through the skills, so a mentor never gets the same one twice
+                links.add(new Object[] { mentorId, skillIds[(offset + i * 7) % skillIds.length] });
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO mentor_skill (mentor_id, skill_id) VALUES (?, ?)", links);
+    }
+
+    // The student and each peer are approved with MENTORS_PER_STUDENT mentors; the peers share the student's first one
+    private void connect(Student student, long[] mentorIds, Random random) {
+        List<Object[]> rows = new ArrayList<>();
+        long shared = mentorIds[random.nextInt(mentorIds.length)];
+        for (int p = 0; p <= PEERS; p++) {
+            Student who = p == 0 ? student : studentRepository.save(TestFixtures.student("Peer " + p));
+            List<Long> mentors = new ArrayList<>(List.of(shared));
+            while (mentors.size() < MENTORS_PER_STUDENT) {
+                long mentorId = mentorIds[random.nextInt(mentorIds.length)];
+                if (!mentors.contains(mentorId)) {
+                    mentors.add(mentorId);
+                }
+            }
+            for (Long mentorId : mentors) {
+                rows.add(new Object[] { who.getStudId(), who.getEmail(), mentorId, "mentor" + mentorId + "@cdac.in", "Mentor" });
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO student_mentor_connections (student_id, student_email, mentor_id, mentor_email, "
+                + "mentor_name, status, connection_date) VALUES (?, ?, ?, ?, ?, 'APPROVED', CURRENT_TIMESTAMP)", rows);
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000.0;
+    }
+}
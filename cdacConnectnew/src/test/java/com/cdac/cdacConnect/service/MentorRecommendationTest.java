@@ -0,0 +1,112 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.cdac.cdacConnect.TestFixtures;
+import com.cdac.cdacConnect.dto.MentorRecommendation;
+import com.cdac.cdacConnect.entity.Meeting;
+import com.cdac.cdacConnect.entity.Mentor;
+import com.cdac.cdacConnect.entity.Student;
+import com.cdac.cdacConnect.entity.StudentMentorConnection;
+import com.cdac.cdacConnect.repository.MentorRepository;
+import com.cdac.cdacConnect.repository.StudentMentorConnectionRepository;
+import com.cdac.cdacConnect.repository.StudentRepository;
+
+@SpringBootTest
+class MentorRecommendationTest {
+
+    @Autowired
+    private MentorRecommendationService recommendationService;
+
+    @Autowired
+    private MentorService mentorService;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private StudentMentorConnectionService connectionService;
+
+    @Autowired
+    private StudentMentorConnectionRepository connectionRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    private String java;
+    private String spring;
+    private Student student;
+    private Student peer;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        java = "Java" + suffix;
+        spring = "Spring" + suffix;
+        student = studentRepository.save(TestFixtures.student());
+        peer = studentRepository.save(TestFixtures.student("Bala"));
+    }
+
+    private Mentor mentor(String name, String... skills) {
+        Mentor mentor = mentorRepository.save(TestFixtures.mentor(name));
+        mentorService.addSkillsToMentor(mentor.getMentorId(), List.of(skills));
+        return mentor;
+    }
+
+    private void approve(Student who, Mentor mentor) {
+        connectionService.createConnection(new StudentMentorConnection(who.getStudId(), who.getEmail(),
+                mentor.getMentorId(), mentor.getEmail(), mentor.getMentorName(), java));
+        Long id = connectionRepository.findByStudentIdAndMentorId(who.getStudId(), mentor.getMentorId()).get().getConnectionId();
+        connectionService.updateConnectionStatus(id, "APPROVED");
+    }
+
+    private List<Long> ids(List<MentorRecommendation> recommendations) {
+        return recommendations.stream().map(MentorRecommendation::getMentorId).toList();
+    }
+
+    @Test
+    void ranksBySkillOverlapThenLoad() {
+        Mentor both = mentor("Both", java, spring);
+        Mentor busy = mentor("Busy", java);
+        Mentor idle = mentor("Idle", java);
+        mentor("Other", "Cobol" + java);
+        for (int i = 0; i < 3; i++) {
+            meetingService.createMeeting(new Meeting(peer.getStudId(), busy.getMentorId(), java, "Question " + i));
+        }
+
+        List<MentorRecommendation> top = recommendationService.recommend(student.getStudId(), List.of(java, spring), 10);
+
+        assertEquals(List.of(both.getMentorId(), idle.getMentorId(), busy.getMentorId()), ids(top));
+        assertEquals(2, top.get(0).getMatchedSkills());
+        assertEquals(3, top.get(2).getPendingMeetings());
+        assertEquals(List.of(both.getMentorId()), ids(recommendationService.recommend(student.getStudId(), List.of(java, spring), 1)));
+    }
+
+    @Test
+    void skipsConnectedMentorsAndBoostsPeerMentors() {
+        Mentor mine = mentor("Mine", java);
+        Mentor peersMentor = mentor("PeersMentor", java);
+        Mentor stranger = mentor("Stranger", java);
+        approve(student, mine);
+        approve(peer, mine);
+        approve(peer, peersMentor);
+
+        List<MentorRecommendation> top = recommendationService.recommend(student.getStudId(), List.of(java), 10);
+
+        assertEquals(List.of(peersMentor.getMentorId(), stranger.getMentorId()), ids(top));
+        assertTrue(top.get(0).isConnectedToPeers());
+        assertFalse(top.get(1).isConnectedToPeers());
+    }
+}
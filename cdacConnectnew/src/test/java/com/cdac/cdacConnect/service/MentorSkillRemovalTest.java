@@ -0,0 +1,86 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.cdac.cdacConnect.TestFixtures;
+import com.cdac.cdacConnect.entity.Mentor;
+import com.cdac.cdacConnect.repository.MentorRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class MentorSkillRemovalTest {
+
+    @Autowired
+    private MentorService mentorService;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String java;
+    private String spring;
+    private String docker;
+    private Mentor mentor;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        java = "Java-" + suffix;
+        spring = "Spring-" + suffix;
+        docker = "Docker-" + suffix;
+        mentor = mentorRepository.save(TestFixtures.mentor("Meera"));
+        mentorService.addSkillsToMentor(mentor.getMentorId(), List.of(java, spring, docker));
+    }
+
+    private List<String> skillsOf(Long mentorId) {
+        return jdbcTemplate.queryForList("SELECT s.skill_name FROM mentor_skill ms JOIN skill s ON s.skill_id = ms.skill_id "
+                + "WHERE ms.mentor_id = ? ORDER BY s.skill_name", String.class, mentorId);
+    }
+
+    private List<Long> mentorsWith(String skill) {
+        return mentorService.searchMentorsBySkills(List.of(skill), List.of(), List.of(), 0L, 50).getItems().stream()
+                .map(Mentor::getMentorId).toList();
+    }
+
+    @Test
+    void removesOneSkillInASingleStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertEquals(HttpStatus.OK, mentorService.removeSkillFromMentor(mentor.getMentorId(), java.toUpperCase()).getStatusCode());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(List.of(docker, spring), skillsOf(mentor.getMentorId()));
+        assertTrue(mentorsWith(java).isEmpty());
+        assertEquals(List.of(mentor.getMentorId()), mentorsWith(spring));
+        assertEquals(HttpStatus.BAD_REQUEST, mentorService.removeSkillFromMentor(mentor.getMentorId(), java).getStatusCode());
+    }
+
+    @Test
+    void removesSeveralSkillsAndIgnoresUnknownOnes() {
+        assertEquals(HttpStatus.OK, mentorService.removeSkillsFromMentor(mentor.getMentorId(),
+                List.of(java, " " + docker, "Cobol")).getStatusCode());
+
+        assertEquals(List.of(spring), skillsOf(mentor.getMentorId()));
+        assertTrue(mentorsWith(docker).isEmpty());
+        assertEquals(HttpStatus.NOT_FOUND, mentorService.removeSkillsFromMentor(-1L, List.of(spring)).getStatusCode());
+    }
+}
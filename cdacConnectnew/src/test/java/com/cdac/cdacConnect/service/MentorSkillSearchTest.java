@@ -0,0 +1,160 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.cdac.cdacConnect.TestFixtures;
+import com.cdac.cdacConnect.dto.CursorPage;
+import com.cdac.cdacConnect.entity.Mentor;
+import com.cdac.cdacConnect.entity.Skill;
+import com.cdac.cdacConnect.repository.MentorRepository;
+import com.cdac.cdacConnect.repository.SkillRepository;
+
+@SpringBootTest
+class MentorSkillSearchTest {
+
+    @Autowired
+    private MentorService mentorService;
+
+    @Autowired
+    private SkillService skillService;
+
+    @Autowired
+    private MentorSkillIndex mentorSkillIndex;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String java;
+    private String spring;
+    private String react;
+    private Mentor ravi;
+    private Mentor sunita;
+    private Mentor kiran;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        java = "Java" + suffix;
+        spring = "Spring" + suffix;
+        react = "React" + suffix;
+        ravi = mentor("Ravi");
+        sunita = mentor("Sunita");
+        kiran = mentor("Kiran");
+        mentorService.addSkillsToMentor(ravi.getMentorId(), List.of(java, spring));
+        mentorService.addSkillsToMentor(sunita.getMentorId(), List.of(java, spring, react));
+        mentorService.addSkillsToMentor(kiran.getMentorId(), List.of(react));
+    }
+
+    private Mentor mentor(String name) {
+        return mentorRepository.save(TestFixtures.mentor(name));
+    }
+
+    private List<Long> ids(CursorPage<Mentor> page) {
+        return page.getItems().stream().map(Mentor::getMentorId).toList();
+    }
+
+    @Test
+    void answersAndOrNotQueries() {
+        assertEquals(List.of(ravi.getMentorId(), sunita.getMentorId()),
+                ids(mentorService.searchMentorsBySkills(List.of(java, spring.toLowerCase()), List.of(), List.of(), 0L, 10)));
+        assertEquals(List.of(sunita.getMentorId()),
+                ids(mentorService.searchMentorsBySkills(List.of(java), List.of(react), List.of(), 0L, 10)));
+        assertEquals(List.of(kiran.getMentorId()),
+                ids(mentorService.searchMentorsBySkills(List.of(), List.of(spring, react), List.of(java), 0L, 10)));
+        assertEquals(List.of(ravi.getMentorId()),
+                ids(mentorService.searchMentorsBySkills(List.of(), List.of(spring, react), List.of(react), 0L, 10)));
+        assertEquals(List.of(), ids(mentorService.searchMentorsBySkills(List.of(java, "Unknown"), List.of(), List.of(), 0L, 10)));
+        assertThrows(IllegalArgumentException.class,
+                () -> mentorService.searchMentorsBySkills(List.of(), List.of(), List.of(java), 0L, 10));
+
+        // The NOT must not have changed the stored bitmaps
+        assertEquals(List.of(sunita.getMentorId(), kiran.getMentorId()),
+                ids(mentorService.searchMentorsBySkills(List.of(react), List.of(), List.of(), 0L, 10)));
+    }
+
+    @Test
+    void pagesWithCursor() {
+        CursorPage<Mentor> first = mentorService.searchMentorsBySkills(List.of(), List.of(java, react), List.of(), 0L, 2);
+        assertEquals(List.of(ravi.getMentorId(), sunita.getMentorId()), ids(first));
+        assertNotNull(first.getNext());
+
+        CursorPage<Mentor> second = mentorService.searchMentorsBySkills(List.of(), List.of(java, react), List.of(),
+                CursorPage.decode(first.getNext()), 2);
+        assertEquals(List.of(kiran.getMentorId()), ids(second));
+        assertNull(second.getNext());
+    }
+
+    @Test
+    void followsSkillRemovalRenameAndRebuild() {
+        // What MentorController's skill-removal endpoints do: save the remaining skills through updateMentor
+        Skill javaSkill = skillRepository.findBySkillName(java).get();
+        Mentor update = new Mentor();
+        update.setSkills(List.of(javaSkill));
+        mentorService.updateMentor(sunita.getMentorId(), update);
+        assertEquals(List.of(kiran.getMentorId()),
+                ids(mentorService.searchMentorsBySkills(List.of(react), List.of(), List.of(), 0L, 10)));
+
+        Skill reactSkill = skillRepository.findBySkillName(react).get();
+        Skill renamed = new Skill();
+        renamed.setSkillName(react + "JS");
+        skillService.updateSkill(reactSkill.getSkillId(), renamed);
+        assertEquals(List.of(kiran.getMentorId()),
+                ids(mentorService.searchMentorsBySkills(List.of(react + "js"), List.of(), List.of(), 0L, 10)));
+
+        mentorSkillIndex.rebuild();
+        assertEquals(List.of(ravi.getMentorId(), sunita.getMentorId()),
+                ids(mentorService.searchMentorsBySkills(List.of(java), List.of(), List.of(), 0L, 10)));
+        assertEquals(List.of(ravi.getMentorId()),
+                ids(mentorService.searchMentorsBySkills(List.of(spring), List.of(), List.of(), 0L, 10)));
+
+        mentorService.deleteMentor(kiran.getMentorId());
+        assertEquals(List.of(), ids(mentorService.searchMentorsBySkills(List.of(react + "JS"), List.of(), List.of(), 0L, 10)));
+    }
+
+    @Test
+    void rebuildKeepsRemovalsThatCommitDuringTheLoad() {
+        // A second index whose load is followed, before the swap, by a skill removal and by a mentor losing
+        // every skill (applied to it as a mentor removal)
+        MentorSkillIndex index = new MentorSkillIndex();
+        ReflectionTestUtils.setField(index, "jdbcTemplate", new JdbcTemplate(jdbcTemplate.getDataSource()) {
+            @Override
+            public void query(String sql, RowCallbackHandler handler) {
+                super.query(sql, handler);
+                mentorService.removeSkillFromMentor(ravi.getMentorId(), spring);
+                index.removeSkillsAfterCommit(ravi.getMentorId(), List.of(spring));
+                mentorService.removeSkillsFromMentor(kiran.getMentorId(), List.of(react));
+                index.removeMentorAfterCommit(kiran.getMentorId());
+            }
+        });
+
+        index.rebuild();
+
+        long[] sunitaOnly = { sunita.getMentorId() };
+        assertArrayEquals(sunitaOnly, index.search(List.of(spring), List.of(), List.of(), 0L, 10));
+        assertArrayEquals(sunitaOnly, index.search(List.of(react), List.of(), List.of(), 0L, 10));
+        // Same answers as a rebuild that starts after both writes
+        mentorSkillIndex.rebuild();
+        assertArrayEquals(sunitaOnly, mentorSkillIndex.search(List.of(spring), List.of(), List.of(), 0L, 10));
+        assertArrayEquals(sunitaOnly, mentorSkillIndex.search(List.of(react), List.of(), List.of(), 0L, 10));
+    }
+}
@@ -0,0 +1,140 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.cdac.cdacConnect.TestFixtures;
+import com.cdac.cdacConnect.entity.Mentor;
+import com.cdac.cdacConnect.repository.MentorRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class MentorSkillsBatchTest {
+
+    @Autowired
+    private MentorService mentorService;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String suffix;
+
+    @BeforeEach
+    void setUp() {
+        suffix = String.valueOf(System.nanoTime());
+    }
+
+    private Mentor mentor(String name) {
+        return mentorRepository.save(TestFixtures.mentor(name));
+    }
+
+    private List<String> names(String prefix, int count) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            names.add(prefix + i + "-" + suffix);
+        }
+        return names;
+    }
+
+    private int skillRows(List<String> names) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM skill WHERE skill_name IN (:names)",
+                new MapSqlParameterSource("names", names), Integer.class);
+    }
+
+    private int links(Long mentorId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM mentor_skill WHERE mentor_id = :id",
+                new MapSqlParameterSource("id", mentorId), Integer.class);
+    }
+
+    @Test
+    void addsThirtySkillsInAHandfulOfStatements() {
+        Mentor mentor = mentor("ravi");
+        List<String> skills = names("Skill", 30);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mentorService.addSkillsToMentor(mentor.getMentorId(), skills);
+
+        // Lookup, re-lookup after the batched insert, mentor, its skills, join-row writes
+        // (the insert itself goes through JDBC and is not counted here)
+        assertTrue(statistics.getPrepareStatementCount() <= 8, "statements: " + statistics.getPrepareStatementCount());
+        assertEquals(30, skillRows(skills));
+        assertEquals(30, links(mentor.getMentorId()));
+    }
+
+    @Test
+    void reusesExistingSkillsAndIgnoresRepeats() {
+        Mentor mentor = mentor("sunita");
+        String java = "Java-" + suffix;
+        mentorService.addSkillsToMentor(mentor.getMentorId(), List.of(java, " " + java, java.toUpperCase()));
+        mentorService.addSkillsToMentor(mentor.getMentorId(), List.of(java.toLowerCase(), "Spring-" + suffix));
+
+        assertEquals(1, skillRows(List.of(java, java.toUpperCase(), java.toLowerCase())));
+        assertEquals(2, links(mentor.getMentorId()));
+    }
+
+    @Test
+    void joinTableRejectsRepeatedPairs() {
+        Mentor mentor = mentor("arun");
+        mentorService.addSkillsToMentor(mentor.getMentorId(), List.of("Go-" + suffix));
+        MapSqlParameterSource pair = new MapSqlParameterSource("id", mentor.getMentorId()).addValue("name", "Go-" + suffix);
+
+        assertThrows(DuplicateKeyException.class, () -> jdbcTemplate.update("INSERT INTO mentor_skill (mentor_id, skill_id) "
+                + "SELECT :id, skill_id FROM skill WHERE skill_name = :name", pair));
+        assertEquals(1, links(mentor.getMentorId()));
+    }
+
+    @Test
+    void concurrentAddsCreateEachSkillOnce() throws Exception {
+        int threads = 8;
+        List<String> skills = names("Shared", 5);
+        List<Mentor> mentors = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            mentors.add(mentor("mentor" + i));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Mentor>> futures = new ArrayList<>();
+        for (Mentor mentor : mentors) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return mentorService.addSkillsToMentor(mentor.getMentorId(), skills);
+            }));
+        }
+        start.countDown();
+        for (Future<Mentor> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(5, skillRows(skills));
+        for (Mentor mentor : mentors) {
+            assertEquals(5, links(mentor.getMentorId()));
+        }
+    }
+}
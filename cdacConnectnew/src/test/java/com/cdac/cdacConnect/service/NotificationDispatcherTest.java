@@ -0,0 +1,141 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.TestPropertySource;
+
+import com.cdac.cdacConnect.TestFixtures;
+import com.cdac.cdacConnect.entity.Meeting;
+import com.cdac.cdacConnect.entity.Mentor;
+import com.cdac.cdacConnect.entity.Student;
+import com.cdac.cdacConnect.entity.StudentMentorConnection;
+import com.cdac.cdacConnect.repository.MentorRepository;
+import com.cdac.cdacConnect.repository.StudentRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import jakarta.mail.Message;
+import jakarta.mail.internet.MimeMessage;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+        "notifications.enabled=true",
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025"
+})
+class NotificationDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private StudentMentorConnectionService connectionService;
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private JavaMailSender mailSender;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Student student;
+    private Mentor mentor;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM notification_outbox");
+        student = studentRepository.save(TestFixtures.student());
+        mentor = mentorRepository.save(TestFixtures.mentor());
+    }
+
+    @Test
+    void sendsQueuedNotificationsInTheBackground() throws Exception {
+        String created = meetingService.createMeeting(new Meeting(student.getStudId(), mentor.getMentorId(), "Java", "Q")).getBody();
+        Long meetingId = Long.valueOf(created.substring(created.lastIndexOf(' ') + 1));
+        meetingService.updateMeetingStatus(meetingId, "APPROVED", mentor.getMentorId());
+
+        // Nothing is sent on the request thread
+        assertEquals(0, greenMail.getReceivedMessages().length);
+        assertEquals(2, countOutbox("PENDING"));
+
+        assertEquals(2, notificationDispatcher.dispatchBatch(mailSender)[1]);
+        greenMail.waitForIncomingEmail(5000, 2);
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(2, received.length);
+        assertEquals(List.of(mentor.getEmail(), student.getEmail()),
+                Arrays.stream(received).map(this::recipient).toList());
+        assertEquals("New meeting request", received[0].getSubject());
+        assertEquals("Your meeting request was approved", received[1].getSubject());
+        assertEquals(2, countOutbox("SENT"));
+    }
+
+    @Test
+    void retriesWithBackoffAfterSmtpFailure() throws Exception {
+        StudentMentorConnection connection = new StudentMentorConnection();
+        connection.setStudentId(student.getStudId());
+        connection.setStudentEmail(student.getEmail());
+        connection.setMentorId(mentor.getMentorId());
+        connection.setMentorEmail(mentor.getEmail());
+        connection.setMentorName(mentor.getMentorName());
+        assertEquals(HttpStatus.OK, connectionService.createConnection(connection).getStatusCode());
+
+        JavaMailSenderImpl unreachable = new JavaMailSenderImpl();
+        unreachable.setHost("localhost");
+        unreachable.setPort(1);
+        assertEquals(0, notificationDispatcher.dispatchBatch(unreachable)[1]);
+
+        // Still pending, but not due again until the backoff has passed
+        assertEquals(1, countOutbox("PENDING"));
+        assertEquals(0, notificationDispatcher.dispatchBatch(mailSender)[0]);
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT attempts FROM notification_outbox", Integer.class));
+
+        jdbcTemplate.update("UPDATE notification_outbox SET next_attempt_at = ?", LocalDateTime.now().minusSeconds(1));
+        assertEquals(1, notificationDispatcher.dispatchBatch(mailSender)[1]);
+        greenMail.waitForIncomingEmail(5000, 1);
+        assertEquals(1, greenMail.getReceivedMessages().length);
+        assertEquals("New connection request", greenMail.getReceivedMessages()[0].getSubject());
+    }
+
+    @Test
+    void failedRequestsQueueNothing() {
+        meetingService.createMeeting(new Meeting(-1L, mentor.getMentorId(), "Java", "Q"));
+        assertEquals(0, countOutbox("PENDING"));
+    }
+
+    private int countOutbox(String status) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification_outbox WHERE status = ?", Integer.class, status);
+    }
+
+    private String recipient(MimeMessage message) {
+        try {
+            return message.getRecipients(Message.RecipientType.TO)[0].toString();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cdac.cdacConnect.TestFixtures;
+import com.cdac.cdacConnect.dto.CacheRegionStats;
+import com.cdac.cdacConnect.entity.Mentor;
+import com.cdac.cdacConnect.entity.Skill;
+import com.cdac.cdacConnect.entity.Student;
+import com.cdac.cdacConnect.repository.MentorRepository;
+import com.cdac.cdacConnect.repository.StudentRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private MentorService mentorService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private SecondLevelCacheService secondLevelCacheService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private String suffix;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        suffix = String.valueOf(System.nanoTime());
+    }
+
+    private List<String> skillsOf(Long mentorId) {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                mentorRepository.findById(mentorId).orElseThrow().getSkills().stream().map(Skill::getSkillName).sorted().toList());
+    }
+
+    @Test
+    void repeatedReadsSkipTheDatabase() {
+        Mentor mentor = mentorRepository.save(TestFixtures.mentor("Kiran"));
+        Student student = studentRepository.save(TestFixtures.student("Lata"));
+        mentorService.getMentorById(mentor.getMentorId());
+        studentService.getStudentByEmail(student.getEmail());
+        statistics.clear();
+
+        assertEquals("Kiran", mentorService.getMentorById(mentor.getMentorId()).orElseThrow().getMentorName());
+        assertEquals("Lata", studentService.getStudentById(student.getStudId()).orElseThrow().getStudName());
+        assertEquals(student.getStudId(), studentService.getStudentByEmail(student.getEmail()).orElseThrow().getStudId());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 2);
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void writesKeepTheCacheCurrent() {
+        Mentor mentor = mentorRepository.save(TestFixtures.mentor("Nisha"));
+        String java = "Java-" + suffix;
+        String spring = "Spring-" + suffix;
+        mentorService.addSkillsToMentor(mentor.getMentorId(), List.of(java, spring));
+        assertEquals(List.of(java, spring), skillsOf(mentor.getMentorId()));
+
+        Mentor renamed = new Mentor();
+        renamed.setMentorName("Nisha R");
+        mentorService.updateMentor(mentor.getMentorId(), renamed);
+        assertEquals("Nisha R", mentorService.getMentorById(mentor.getMentorId()).orElseThrow().getMentorName());
+
+        // A cached "no such email" answer is dropped once the mentor table changes
+        Mentor omar = TestFixtures.mentor("Omar");
+        String email = omar.getEmail();
+        assertTrue(mentorService.getMentorByEmail(email).isEmpty());
+        mentorRepository.save(omar);
+        assertEquals("Omar", mentorService.getMentorByEmail(email).orElseThrow().getMentorName());
+
+        // The set-based skill removal bypasses the entity, but invalidates the cached collection
+        mentorService.removeSkillFromMentor(mentor.getMentorId(), java);
+        assertEquals(List.of(spring), skillsOf(mentor.getMentorId()));
+    }
+
+    @Test
+    void exposesRegionCounters() {
+        Mentor mentor = mentorRepository.save(TestFixtures.mentor("Pooja"));
+        mentorService.getMentorById(mentor.getMentorId());
+
+        List<String> regions = secondLevelCacheService.regionStats().stream().map(CacheRegionStats::getRegion).toList();
+        assertTrue(regions.containsAll(List.of("mentors", "students", "skills", "mentor-skills", "email-lookups")), regions.toString());
+        CacheRegionStats mentors = secondLevelCacheService.regionStats().stream()
+                .filter(s -> s.getRegion().equals("mentors")).findFirst().orElseThrow();
+        assertTrue(mentors.getPuts() + mentors.getHits() > 0);
+    }
+}
@@ -0,0 +1,131 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.cdac.cdacConnect.dto.SkillCatalogStats;
+import com.cdac.cdacConnect.entity.Skill;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class SkillCatalogCacheTest {
+
+    @Autowired
+    private SkillCatalogCache skillCatalogCache;
+
+    @Autowired
+    private SkillService skillService;
+
+    @Autowired
+    private MentorService mentorService;
+
+    @Autowired
+    private UserExistenceCache userExistenceCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String suffix;
+
+    @BeforeEach
+    void setUp() {
+        suffix = String.valueOf(System.nanoTime());
+        // Other tests insert skills directly; start from the database's current catalog
+        skillCatalogCache.reload();
+    }
+
+    private Skill skill(String name) {
+        Skill skill = new Skill();
+        skill.setSkillName(name);
+        return skill;
+    }
+
+    @Test
+    void lookupsAreServedFromMemory() {
+        String java = "Java-" + suffix;
+        assertEquals(HttpStatus.CREATED, skillService.saveSkill(skill(java)).getStatusCode());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        SkillCatalogStats before = skillCatalogCache.stats();
+
+        Skill found = skillService.getSkillByName(java.toUpperCase()).orElseThrow();
+        assertEquals(java, found.getSkillName());
+        assertEquals(java, skillCatalogCache.findById(found.getSkillId()).orElseThrow().getSkillName());
+        assertTrue(skillService.getSkillByName("Nope-" + suffix).isEmpty());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        SkillCatalogStats after = skillCatalogCache.stats();
+        assertEquals(2, after.getHits() - before.getHits());
+        assertEquals(1, after.getMisses() - before.getMisses());
+    }
+
+    @Test
+    void writesGoThroughToTheCache() {
+        String go = "Go-" + suffix;
+        skillService.saveSkill(skill(go));
+        Long id = skillCatalogCache.findByName(go).orElseThrow().getSkillId();
+        assertEquals(HttpStatus.CONFLICT, skillService.saveSkill(skill(go.toLowerCase())).getStatusCode());
+
+        String golang = "Golang-" + suffix;
+        assertEquals(HttpStatus.OK, skillService.updateSkill(id, skill(golang)).getStatusCode());
+        assertFalse(skillCatalogCache.containsName(go));
+        assertEquals(id, skillCatalogCache.findByName(golang).orElseThrow().getSkillId());
+
+        long version = skillCatalogCache.stats().getVersion();
+        assertEquals(HttpStatus.OK, skillService.deleteSkill(id).getStatusCode());
+        assertFalse(skillCatalogCache.findById(id).isPresent());
+        // The writer's own bump does not force a reload
+        long reloads = skillCatalogCache.stats().getReloads();
+        skillCatalogCache.refreshIfChanged();
+        assertEquals(version + 1, skillCatalogCache.stats().getVersion());
+        assertEquals(reloads, skillCatalogCache.stats().getReloads());
+    }
+
+    @Test
+    void reloadsWhenAnotherNodeBumpsTheVersion() {
+        String rust = "Rust-" + suffix;
+        jdbcTemplate.update("INSERT INTO skill (skill_name) VALUES (?)", rust);
+        skillCatalogCache.refreshIfChanged();
+        assertFalse(skillCatalogCache.containsName(rust));
+
+        jdbcTemplate.update("UPDATE skill_catalog_version SET version = version + 1 WHERE id = 1");
+        skillCatalogCache.refreshIfChanged();
+        assertTrue(skillCatalogCache.containsName(rust));
+    }
+
+    @Test
+    void skillsCreatedForAMentorAreCachedEvenIfLinkingFails() {
+        String kotlin = "Kotlin-" + suffix;
+        // The id passes the existence check but the mentor is gone by the time the skills are linked
+        Long missingMentorId = Long.MAX_VALUE - System.nanoTime() % 1_000_000;
+        userExistenceCache.addMentor(missingMentorId);
+        try {
+            assertThrows(RuntimeException.class, () -> mentorService.addSkillsToMentor(missingMentorId, List.of(kotlin)));
+        } finally {
+            userExistenceCache.removeMentor(missingMentorId);
+        }
+
+        // The skill insert committed and bumped the version; the cache must already hold the row it skipped reloading for
+        assertTrue(skillCatalogCache.containsName(kotlin));
+        long reloads = skillCatalogCache.stats().getReloads();
+        skillCatalogCache.refreshIfChanged();
+        assertEquals(reloads, skillCatalogCache.stats().getReloads());
+    }
+}
@@ -0,0 +1,92 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.cdac.cdacConnect.TestFixtures;
+import com.cdac.cdacConnect.dto.SkillSuggestion;
+import com.cdac.cdacConnect.entity.Mentor;
+import com.cdac.cdacConnect.entity.Skill;
+import com.cdac.cdacConnect.repository.MentorRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class SkillSuggestTest {
+
+    @Autowired
+    private SkillService skillService;
+
+    @Autowired
+    private MentorService mentorService;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String prefix;
+
+    @BeforeEach
+    void setUp() {
+        // Unique per test, so skills from other tests never match
+        prefix = "Sg" + System.nanoTime();
+    }
+
+    private void mentorWith(String... skills) {
+        Mentor mentor = mentorRepository.save(TestFixtures.mentor("Mentor"));
+        mentorService.addSkillsToMentor(mentor.getMentorId(), List.of(skills));
+    }
+
+    private List<String> names(List<SkillSuggestion> suggestions) {
+        return suggestions.stream().map(SkillSuggestion::getSkillName).toList();
+    }
+
+    @Test
+    void ranksByMentorCountThenName() {
+        String java = prefix + "Java";
+        String javascript = prefix + "JavaScript";
+        String jakarta = prefix + "Jakarta";
+        String julia = prefix + "Julia";
+        mentorWith(javascript, java, julia);
+        mentorWith(javascript, java);
+        mentorWith(javascript, jakarta);
+        mentorWith(prefix + "Kotlin");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<SkillSuggestion> suggestions = skillService.suggestSkills(prefix.toLowerCase() + "j", 10);
+
+        assertEquals(List.of(javascript, java, jakarta, julia), names(suggestions));
+        assertEquals(3, suggestions.get(0).getMentorCount());
+        assertEquals(List.of(javascript, java), names(skillService.suggestSkills(prefix + "JA", 2)));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void followsSkillWrites() {
+        Skill skill = new Skill();
+        skill.setSkillName(prefix + "Go");
+        skillService.saveSkill(skill);
+        Long id = skillService.getSkillByName(prefix + "Go").orElseThrow().getSkillId();
+        assertEquals(List.of(prefix + "Go"), names(skillService.suggestSkills(prefix, 10)));
+
+        Skill renamed = new Skill();
+        renamed.setSkillName(prefix + "Rust");
+        skillService.updateSkill(id, renamed);
+        assertEquals(List.of(), names(skillService.suggestSkills(prefix + "G", 10)));
+        assertEquals(List.of(prefix + "Rust"), names(skillService.suggestSkills(prefix + "r", 10)));
+
+        skillService.deleteSkill(id);
+        assertEquals(List.of(), skillService.suggestSkills(prefix, 10));
+    }
+}
@@ -0,0 +1,106 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+
+import com.cdac.cdacConnect.TestFixtures;
+import com.cdac.cdacConnect.dto.CursorPage;
+import com.cdac.cdacConnect.dto.MentorSummary;
+import com.cdac.cdacConnect.dto.SkillSummary;
+import com.cdac.cdacConnect.entity.Mentor;
+import com.cdac.cdacConnect.entity.Skill;
+import com.cdac.cdacConnect.repository.MentorRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class SkillSummaryTest {
+
+    @Autowired
+    private SkillService skillService;
+
+    @Autowired
+    private MentorService mentorService;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String suffix;
+
+    @BeforeEach
+    void setUp() {
+        suffix = String.valueOf(System.nanoTime());
+    }
+
+    private Mentor mentorWith(String... skills) {
+        Mentor mentor = mentorRepository.save(TestFixtures.mentor("Mentor"));
+        mentorService.addSkillsToMentor(mentor.getMentorId(), List.of(skills));
+        return mentor;
+    }
+
+    private Long idOf(String skillName) {
+        return skillService.getSkillByName(skillName).orElseThrow().getSkillId();
+    }
+
+    @Test
+    void listsSkillsWithMentorCountsInOneQuery() {
+        String java = "Java-" + suffix;
+        String spring = "Spring-" + suffix;
+        mentorWith(java, spring);
+        mentorWith(java);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<SkillSummary> skills = skillService.getAllSkill();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(2, skills.stream().filter(s -> s.getSkillName().equals(java)).findFirst().orElseThrow().getMentorCount());
+        assertEquals(1, skillService.getSkillById(idOf(spring)).orElseThrow().getMentorCount());
+    }
+
+    @Test
+    void pagesMentorsOfASkill() {
+        String kotlin = "Kotlin-" + suffix;
+        Mentor first = mentorWith(kotlin);
+        Mentor second = mentorWith(kotlin);
+        Mentor third = mentorWith(kotlin);
+        Long skillId = idOf(kotlin);
+
+        CursorPage<MentorSummary> page = skillService.getMentorsWithSkill(skillId, 0L, 2).orElseThrow();
+        assertEquals(List.of(first.getMentorId(), second.getMentorId()),
+                page.getItems().stream().map(MentorSummary::getMentorId).toList());
+        assertNotNull(page.getNext());
+
+        page = skillService.getMentorsWithSkill(skillId, CursorPage.decode(page.getNext()), 2).orElseThrow();
+        assertEquals(List.of(third.getMentorId()), page.getItems().stream().map(MentorSummary::getMentorId).toList());
+        assertNull(page.getNext());
+        assertTrue(skillService.getMentorsWithSkill(-1L, 0L, 2).isEmpty());
+    }
+
+    @Test
+    void deleteChecksForMentorsWithoutLoadingThem() {
+        String held = "Held-" + suffix;
+        mentorWith(held);
+        Skill unused = new Skill();
+        unused.setSkillName("Unused-" + suffix);
+        skillService.saveSkill(unused);
+
+        assertEquals(HttpStatus.CONFLICT, skillService.deleteSkill(idOf(held)).getStatusCode());
+        assertEquals(HttpStatus.OK, skillService.deleteSkill(idOf("Unused-" + suffix)).getStatusCode());
+    }
+}
@@ -0,0 +1,96 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.cdac.cdacConnect.TestFixtures;
+import com.cdac.cdacConnect.entity.Mentor;
+import com.cdac.cdacConnect.entity.Student;
+import com.cdac.cdacConnect.entity.StudentMentorConnection;
+import com.cdac.cdacConnect.repository.MentorRepository;
+import com.cdac.cdacConnect.repository.StudentMentorConnectionRepository;
+import com.cdac.cdacConnect.repository.StudentRepository;
+
+@SpringBootTest
+class StudentMentorConnectionServiceTest {
+
+    private static final String DUPLICATE = "Connection already exists between this student and mentor";
+
+    @Autowired
+    private StudentMentorConnectionService connectionService;
+
+    @Autowired
+    private StudentMentorConnectionRepository connectionRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    private Student student;
+    private Mentor mentor;
+
+    @BeforeEach
+    void setUp() {
+        student = studentRepository.save(TestFixtures.student());
+        mentor = mentorRepository.save(TestFixtures.mentor());
+    }
+
+    private StudentMentorConnection newConnection() {
+        return new StudentMentorConnection(student.getStudId(), student.getEmail(), mentor.getMentorId(),
+                mentor.getEmail(), mentor.getMentorName(), "Java,Spring");
+    }
+
+    @Test
+    void rejectsDuplicateConnection() {
+        assertEquals(HttpStatus.OK, connectionService.createConnection(newConnection()).getStatusCode());
+
+        ResponseEntity<String> duplicate = connectionService.createConnection(newConnection());
+
+        assertEquals(HttpStatus.BAD_REQUEST, duplicate.getStatusCode());
+        assertEquals(DUPLICATE, duplicate.getBody());
+    }
+
+    @Test
+    void concurrentRequestsCreateOneConnection() throws Exception {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ResponseEntity<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return connectionService.createConnection(newConnection());
+            }));
+        }
+        start.countDown();
+
+        int created = 0;
+        for (Future<ResponseEntity<String>> future : futures) {
+            ResponseEntity<String> response = future.get();
+            if (response.getStatusCode() == HttpStatus.OK) {
+                created++;
+            } else {
+                assertEquals(DUPLICATE, response.getBody());
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(1, created);
+        assertEquals(1, connectionRepository.findByStudentId(student.getStudId()).size());
+    }
+}
@@ -0,0 +1,101 @@
+package com.cdac.cdacConnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+
+import com.cdac.cdacConnect.TestFixtures;
+import com.cdac.cdacConnect.entity.Meeting;
+import com.cdac.cdacConnect.entity.Mentor;
+import com.cdac.cdacConnect.entity.Student;
+import com.cdac.cdacConnect.repository.MentorRepository;
+import com.cdac.cdacConnect.repository.StudentRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class UserExistenceCacheTest {
+
+    private static final Logger log = LoggerFactory.getLogger(UserExistenceCacheTest.class);
+    private static final int REQUESTS = 200;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private MentorService mentorService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private UserExistenceCache userExistenceCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long studentId;
+    private Long mentorId;
+
+    @BeforeEach
+    void setUp() {
+        Student student = TestFixtures.student("Student");
+        Mentor mentor = TestFixtures.mentor("Mentor");
+        studentService.saveStudent(student);
+        mentorService.saveMentor(mentor);
+        studentId = studentRepository.findByEmail(student.getEmail()).get().getStudId();
+        mentorId = mentorRepository.findByEmail(mentor.getEmail()).get().getMentorId();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void cachedIdsSkipExistenceQueries() {
+        long uncachedNanos = createMeetings(false);
+        long uncachedStatements = statistics.getPrepareStatementCount();
+        long cachedNanos = createMeetings(true);
+        long cachedStatements = statistics.getPrepareStatementCount();
+
+        // Two existence selects per request are gone once the ids are known
+        assertEquals(uncachedStatements - 2L * REQUESTS, cachedStatements);
+        log.info("createMeeting x{}: {} statements / {} ms without cache, {} statements / {} ms with cache",
+                REQUESTS, uncachedStatements, uncachedNanos / 1_000_000, cachedStatements, cachedNanos / 1_000_000);
+    }
+
+    @Test
+    void deletedUsersAreRejected() {
+        studentService.deleteStudent(studentId);
+
+        Meeting meeting = new Meeting(studentId, mentorId, "Java", "Q");
+        assertEquals(HttpStatus.BAD_REQUEST, meetingService.createMeeting(meeting).getStatusCode());
+        assertTrue(userExistenceCache.mentorExists(mentorId));
+    }
+
+    // Create REQUESTS meetings and return the elapsed time, with statistics counting only these requests
+    private long createMeetings(boolean cached) {
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            if (!cached) {
+                userExistenceCache.clear();
+            }
+            meetingService.createMeeting(new Meeting(studentId, mentorId, "Java", "Q" + i));
+        }
+        return System.nanoTime() - start;
+    }
+}